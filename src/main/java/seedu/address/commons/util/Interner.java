@@ -0,0 +1,52 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * A pool of canonical instances of an immutable value class, each identified by the string it was created from.
+ * Equal strings are mapped to the same instance, so that repeated values share one object and one string, and
+ * equality checks between them succeed on reference identity.
+ * Instances are held weakly, so an instance no longer used elsewhere can be garbage collected.
+ *
+ * @param <T> the type of the pooled values
+ */
+public class Interner<T> {
+
+    private final Function<String, T> factory;
+    private final Map<String, WeakReference<T>> pool = new WeakHashMap<>();
+
+    /**
+     * Creates an empty pool whose instances are created by {@code factory}.
+     * The instances must keep a reference to the string they are created from, which keeps their entry alive.
+     */
+    public Interner(Function<String, T> factory) {
+        this.factory = requireNonNull(factory);
+    }
+
+    /**
+     * Returns the canonical instance for {@code key}, creating it with the factory of this pool if there is none.
+     * Any exception thrown by the factory is passed on, and nothing is added to the pool.
+     */
+    public synchronized T intern(String key) {
+        requireNonNull(key);
+        WeakReference<T> reference = pool.get(key);
+        T canonical = reference == null ? null : reference.get();
+        if (canonical == null) {
+            canonical = factory.apply(key);
+            pool.put(key, new WeakReference<>(canonical));
+        }
+        return canonical;
+    }
+
+    /**
+     * Returns the number of instances in the pool, including any that are about to be garbage collected.
+     */
+    public synchronized int size() {
+        return pool.size();
+    }
+}
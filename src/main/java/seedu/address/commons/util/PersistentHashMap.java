@@ -0,0 +1,303 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+
+/**
+ * An immutable hash map whose updates return a new map sharing all but O(log n) nodes with the old one.
+ * Backed by a hash array mapped trie, which branches 32 ways on successive 5-bit chunks of the key hash, so that
+ * lookups and updates visit at most seven nodes, and keeping an old version costs nothing.
+ * Keys and values must not be null.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public final class PersistentHashMap<K, V> {
+
+    private static final int BITS_PER_LEVEL = 5;
+    private static final int LEVEL_MASK = (1 << BITS_PER_LEVEL) - 1;
+
+    private static final PersistentHashMap<Object, Object> EMPTY = new PersistentHashMap<>(BranchNode.empty(), 0);
+
+    private final Node<K, V> root;
+    private final int size;
+
+    private PersistentHashMap(Node<K, V> root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty map.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentHashMap<K, V> empty() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the value mapped to {@code key}, or null if there is none.
+     */
+    public V get(Object key) {
+        requireNonNull(key);
+        return root.get(key, hash(key), 0);
+    }
+
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Returns a map with {@code key} mapped to {@code value}, replacing any value it was mapped to.
+     */
+    public PersistentHashMap<K, V> plus(K key, V value) {
+        requireAllNonNull(key, value);
+        int newSize = containsKey(key) ? size : size + 1;
+        return new PersistentHashMap<>(root.put(key, value, hash(key), 0), newSize);
+    }
+
+    /**
+     * Returns a map without a mapping for {@code key}.
+     */
+    public PersistentHashMap<K, V> minus(Object key) {
+        if (!containsKey(key)) {
+            return this;
+        }
+        Node<K, V> newRoot = root.remove(key, hash(key), 0);
+        return size == 1 ? empty() : new PersistentHashMap<>(newRoot, size - 1);
+    }
+
+    /**
+     * Spreads the high bits of the hash code downwards, as the trie branches on the low bits first.
+     */
+    private static int hash(Object key) {
+        int hashCode = key.hashCode();
+        return hashCode ^ (hashCode >>> 16);
+    }
+
+    private static int bitFor(int hash, int shift) {
+        return 1 << ((hash >>> shift) & LEVEL_MASK);
+    }
+
+    /**
+     * An immutable trie node. Updates return the node itself if nothing changed, and removals return null if the
+     * node becomes empty.
+     */
+    private interface Node<K, V> {
+        V get(Object key, int hash, int shift);
+
+        Node<K, V> put(K key, V value, int hash, int shift);
+
+        Node<K, V> remove(Object key, int hash, int shift);
+    }
+
+    /**
+     * A node holding a single mapping.
+     */
+    private static final class LeafNode<K, V> implements Node<K, V> {
+        private final int hash;
+        private final K key;
+        private final V value;
+
+        LeafNode(int hash, K key, V value) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public V get(Object key, int hash, int shift) {
+            return hash == this.hash && key.equals(this.key) ? value : null;
+        }
+
+        @Override
+        public Node<K, V> put(K key, V value, int hash, int shift) {
+            if (hash != this.hash) {
+                return BranchNode.<K, V>over(this, this.hash, shift).put(key, value, hash, shift);
+            } else if (!key.equals(this.key)) {
+                return CollisionNode.of(hash, this, new LeafNode<>(hash, key, value));
+            } else if (value == this.value) {
+                return this;
+            }
+            return new LeafNode<>(hash, key, value);
+        }
+
+        @Override
+        public Node<K, V> remove(Object key, int hash, int shift) {
+            return get(key, hash, shift) == null ? this : null;
+        }
+    }
+
+    /**
+     * A node holding the mappings of several keys with the same hash.
+     */
+    private static final class CollisionNode<K, V> implements Node<K, V> {
+        private final int hash;
+        private final LeafNode<K, V>[] leaves;
+
+        CollisionNode(int hash, LeafNode<K, V>[] leaves) {
+            this.hash = hash;
+            this.leaves = leaves;
+        }
+
+        /**
+         * Returns a collision node holding {@code first} and {@code second}, whose keys both have the given hash.
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        static <K, V> CollisionNode<K, V> of(int hash, LeafNode<K, V> first, LeafNode<K, V> second) {
+            return new CollisionNode<>(hash, new LeafNode[] {first, second});
+        }
+
+        @Override
+        public V get(Object key, int hash, int shift) {
+            int position = indexOf(key, hash);
+            return position < 0 ? null : leaves[position].value;
+        }
+
+        @Override
+        public Node<K, V> put(K key, V value, int hash, int shift) {
+            if (hash != this.hash) {
+                return BranchNode.<K, V>over(this, this.hash, shift).put(key, value, hash, shift);
+            }
+            int position = indexOf(key, hash);
+            LeafNode<K, V>[] newLeaves;
+            if (position < 0) {
+                newLeaves = Arrays.copyOf(leaves, leaves.length + 1);
+                position = leaves.length;
+            } else {
+                newLeaves = leaves.clone();
+            }
+            newLeaves[position] = new LeafNode<>(hash, key, value);
+            return new CollisionNode<>(hash, newLeaves);
+        }
+
+        @Override
+        public Node<K, V> remove(Object key, int hash, int shift) {
+            int position = indexOf(key, hash);
+            if (position < 0) {
+                return this;
+            } else if (leaves.length == 2) {
+                return leaves[1 - position];
+            }
+            LeafNode<K, V>[] newLeaves = Arrays.copyOf(leaves, leaves.length - 1);
+            System.arraycopy(leaves, position + 1, newLeaves, position, leaves.length - position - 1);
+            return new CollisionNode<>(hash, newLeaves);
+        }
+
+        private int indexOf(Object key, int hash) {
+            if (hash != this.hash) {
+                return -1;
+            }
+            for (int i = 0; i < leaves.length; i++) {
+                if (key.equals(leaves[i].key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * A node branching on one 5-bit chunk of the hash. Only the children that exist are stored, in the order of
+     * the bits set in {@code bitmap}.
+     */
+    private static final class BranchNode<K, V> implements Node<K, V> {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static final BranchNode<?, ?> EMPTY = new BranchNode<>(0, new Node[0]);
+
+        private final int bitmap;
+        private final Node<K, V>[] children;
+
+        BranchNode(int bitmap, Node<K, V>[] children) {
+            this.bitmap = bitmap;
+            this.children = children;
+        }
+
+        /**
+         * Returns the branch node without children.
+         */
+        @SuppressWarnings("unchecked")
+        static <K, V> BranchNode<K, V> empty() {
+            return (BranchNode<K, V>) EMPTY;
+        }
+
+        /**
+         * Returns a branch node at {@code shift} with {@code child}, whose keys all have the given hash, as its only
+         * child.
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        static <K, V> BranchNode<K, V> over(Node<K, V> child, int hash, int shift) {
+            return new BranchNode<>(bitFor(hash, shift), new Node[] {child});
+        }
+
+        @Override
+        public V get(Object key, int hash, int shift) {
+            int bit = bitFor(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            return children[positionOf(bit)].get(key, hash, shift + BITS_PER_LEVEL);
+        }
+
+        @Override
+        public Node<K, V> put(K key, V value, int hash, int shift) {
+            int bit = bitFor(hash, shift);
+            int position = positionOf(bit);
+            if ((bitmap & bit) == 0) {
+                Node<K, V>[] newChildren = Arrays.copyOf(children, children.length + 1);
+                System.arraycopy(children, position, newChildren, position + 1, children.length - position);
+                newChildren[position] = new LeafNode<>(hash, key, value);
+                return new BranchNode<>(bitmap | bit, newChildren);
+            }
+
+            Node<K, V> child = children[position];
+            Node<K, V> newChild = child.put(key, value, hash, shift + BITS_PER_LEVEL);
+            if (newChild == child) {
+                return this;
+            }
+            Node<K, V>[] newChildren = children.clone();
+            newChildren[position] = newChild;
+            return new BranchNode<>(bitmap, newChildren);
+        }
+
+        @Override
+        public Node<K, V> remove(Object key, int hash, int shift) {
+            int bit = bitFor(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int position = positionOf(bit);
+            Node<K, V> child = children[position];
+            Node<K, V> newChild = child.remove(key, hash, shift + BITS_PER_LEVEL);
+            if (newChild == child) {
+                return this;
+            } else if (newChild != null) {
+                Node<K, V>[] newChildren = children.clone();
+                newChildren[position] = newChild;
+                return new BranchNode<>(bitmap, newChildren);
+            } else if (children.length == 1) {
+                return null;
+            } else if (children.length == 2 && !(children[1 - position] instanceof BranchNode)) {
+                // A lone leaf or collision node can sit at any depth, so collapse this branch into it
+                return children[1 - position];
+            }
+            Node<K, V>[] newChildren = Arrays.copyOf(children, children.length - 1);
+            System.arraycopy(children, position + 1, newChildren, position, children.length - position - 1);
+            return new BranchNode<>(bitmap & ~bit, newChildren);
+        }
+
+        private int positionOf(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable sequence whose updates return a new vector sharing all but O(log n) nodes with the old one.
+ * Backed by a height-balanced tree indexed by position, so that reading, replacing, inserting and removing at any
+ * position all take O(log n) time, and keeping an old version costs nothing.
+ *
+ * @param <E> the type of the elements
+ */
+public final class PersistentVector<E> implements Iterable<E> {
+
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(null);
+
+    private final Node<E> root;
+
+    private PersistentVector(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty vector.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    /**
+     * Returns a vector of {@code elements}, in order, built in O(n) time.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> of(List<? extends E> elements) {
+        requireNonNull(elements);
+        Object[] array = elements.toArray();
+        return array.length == 0 ? empty() : new PersistentVector<>(build((E[]) array, 0, array.length));
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not a position of this vector.
+     */
+    public E get(int index) {
+        checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * Searches this vector, whose elements must be in increasing order by {@code comparator}, for {@code key}.
+     * Returns the position of an element equal to {@code key} by {@code comparator} if there is one, and
+     * {@code -(insertion point) - 1} otherwise, as {@link java.util.Collections#binarySearch(List, Object, Comparator)}
+     * does. Descends the tree once, so it makes O(log n) comparisons.
+     */
+    public int binarySearch(E key, Comparator<? super E> comparator) {
+        requireNonNull(comparator);
+        Node<E> node = root;
+        int offset = 0;
+        while (node != null) {
+            int comparison = comparator.compare(node.value, key);
+            if (comparison < 0) {
+                offset += size(node.left) + 1;
+                node = node.right;
+            } else if (comparison > 0) {
+                node = node.left;
+            } else {
+                return offset + size(node.left);
+            }
+        }
+        return -offset - 1;
+    }
+
+    /**
+     * Returns a vector with the element at {@code index} replaced by {@code element}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not a position of this vector.
+     */
+    public PersistentVector<E> with(int index, E element) {
+        checkIndex(index, size());
+        return new PersistentVector<>(replace(root, index, element));
+    }
+
+    /**
+     * Returns a vector with {@code element} appended.
+     */
+    public PersistentVector<E> plus(E element) {
+        return plus(size(), element);
+    }
+
+    /**
+     * Returns a vector with {@code element} inserted at {@code index}, shifting later elements up by one.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is negative or greater than the size of this vector.
+     */
+    public PersistentVector<E> plus(int index, E element) {
+        checkIndex(index, size() + 1);
+        return new PersistentVector<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns a vector without the element at {@code index}, shifting later elements down by one.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not a position of this vector.
+     */
+    public PersistentVector<E> minus(int index) {
+        checkIndex(index, size());
+        return new PersistentVector<>(remove(root, index));
+    }
+
+    /**
+     * Returns an unmodifiable {@code List} view of this vector.
+     */
+    public List<E> asList() {
+        return new AbstractList<>() {
+            @Override
+            public E get(int index) {
+                return PersistentVector.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return PersistentVector.this.size();
+            }
+
+            @Override
+            public Iterator<E> iterator() {
+                return PersistentVector.this.iterator();
+            }
+        };
+    }
+
+    /**
+     * Returns an iterator over the elements in order, visiting each node once.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private final Deque<Node<E>> path = new ArrayDeque<>();
+
+            {
+                descendLeft(root);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public E next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<E> node = path.pop();
+                descendLeft(node.right);
+                return node.value;
+            }
+
+            private void descendLeft(Node<E> node) {
+                for (; node != null; node = node.left) {
+                    path.push(node);
+                }
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersistentVector)) {
+            return false;
+        }
+
+        PersistentVector<?> otherVector = (PersistentVector<?>) other;
+        return asList().equals(otherVector.asList());
+    }
+
+    @Override
+    public int hashCode() {
+        return asList().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return asList().toString();
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+
+    private static <E> Node<E> build(E[] elements, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node<>(elements[middle], build(elements, from, middle), build(elements, middle + 1, to));
+    }
+
+    private static <E> Node<E> replace(Node<E> node, int index, E element) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new Node<>(node.value, replace(node.left, index, element), node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.value, node.left, replace(node.right, index - leftSize - 1, element));
+        } else {
+            return new Node<>(element, node.left, node.right);
+        }
+    }
+
+    private static <E> Node<E> insert(Node<E> node, int index, E element) {
+        if (node == null) {
+            return new Node<>(element, null, null);
+        }
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            return balance(node.value, insert(node.left, index, element), node.right);
+        } else {
+            return balance(node.value, node.left, insert(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    private static <E> Node<E> remove(Node<E> node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(node.value, remove(node.left, index), node.right);
+        } else if (index > leftSize) {
+            return balance(node.value, node.left, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            Node<E> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            return balance(successor.value, node.left, remove(node.right, 0));
+        }
+    }
+
+    /**
+     * Returns a node holding {@code value} over {@code left} and {@code right}, rotated so that the heights of its
+     * subtrees differ by at most one. The heights of {@code left} and {@code right} may differ by at most two.
+     */
+    private static <E> Node<E> balance(E value, Node<E> left, Node<E> right) {
+        if (height(left) > height(right) + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.value, left.left, new Node<>(value, left.right, right));
+            }
+            Node<E> pivot = left.right;
+            return new Node<>(pivot.value, new Node<>(left.value, left.left, pivot.left),
+                    new Node<>(value, pivot.right, right));
+        } else if (height(right) > height(left) + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(right.value, new Node<>(value, left, right.left), right.right);
+            }
+            Node<E> pivot = right.left;
+            return new Node<>(pivot.value, new Node<>(value, left, pivot.left),
+                    new Node<>(right.value, pivot.right, right.right));
+        }
+        return new Node<>(value, left, right);
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * An immutable tree node. {@code size} and {@code height} cover the subtree rooted at the node.
+     */
+    private static final class Node<E> {
+        private final E value;
+        private final Node<E> left;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        Node(E value, Node<E> left, Node<E> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+}
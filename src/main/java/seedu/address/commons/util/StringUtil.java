@@ -48,6 +48,63 @@ public class StringUtil {
         return t.getMessage() + "\n" + sw.toString();
     }
 
+    /**
+     * Returns the Levenshtein edit distance between {@code first} and {@code second} if it is at most {@code bound},
+     * or {@code bound + 1} otherwise. Case is significant.
+     * Only cells within {@code bound} of the diagonal are computed, and the computation stops as soon as every
+     * remaining alignment is known to exceed {@code bound}.
+     *   <br>examples:<pre>
+     *       boundedEditDistance("kitten", "sitting", 3) == 3
+     *       boundedEditDistance("kitten", "sitting", 1) == 2
+     *       </pre>
+     * @param first cannot be null
+     * @param second cannot be null
+     * @param bound cannot be negative
+     */
+    public static int boundedEditDistance(String first, String second, int bound) {
+        requireNonNull(first);
+        requireNonNull(second);
+        checkArgument(bound >= 0, "Bound parameter cannot be negative");
+
+        int exceeded = bound + 1;
+        if (Math.abs(first.length() - second.length()) > bound) {
+            return exceeded;
+        }
+
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = Math.min(j, exceeded);
+        }
+
+        for (int i = 1; i <= first.length(); i++) {
+            int from = Math.max(1, i - bound);
+            int to = Math.min(second.length(), i + bound);
+            current[0] = Math.min(i, exceeded);
+            if (from > 1) {
+                current[from - 1] = exceeded;
+            }
+            int rowMinimum = current[0];
+            for (int j = from; j <= to; j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                int deletion = previous[j] + 1;
+                int insertion = current[j - 1] + 1;
+                current[j] = Math.min(exceeded, Math.min(substitution, Math.min(deletion, insertion)));
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (to < second.length()) {
+                current[to + 1] = exceeded;
+            }
+            if (rowMinimum > bound) {
+                return exceeded;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+
     /**
      * Returns true if {@code s} represents a non-zero unsigned integer
      * e.g. 1, 2, 3, ..., {@code Integer.MAX_VALUE} <br>
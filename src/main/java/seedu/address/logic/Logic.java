@@ -7,6 +7,8 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.PageCursor;
+import seedu.address.model.PersonPage;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 
@@ -33,6 +35,13 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns a page of the filtered list of persons, starting just after the person {@code cursor} is anchored at.
+     *
+     * @see seedu.address.model.Model#getFilteredPersonPage(PageCursor, int)
+     */
+    PersonPage getFilteredPersonPage(PageCursor cursor, int pageSize);
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -0,0 +1,59 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SALARY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Shows the steps a {@code find} with the same arguments would take, and how many persons each step is expected to
+ * handle, without changing the displayed persons.
+ */
+public class ExplainCommand extends Command {
+
+    public static final String COMMAND_WORD = "explain";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows how a " + FindCommand.COMMAND_WORD
+            + " with the same parameters would search the address book, without running it.\n"
+            + "Parameters: the parameters of " + FindCommand.COMMAND_WORD + "\n"
+            + "Example: " + COMMAND_WORD + " ali* " + PREFIX_TAG + "friends " + PREFIX_SALARY + "20-";
+
+    private final Predicate<Person> predicate;
+
+    public ExplainCommand(Predicate<Person> predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(model.explainQuery(predicate).explain());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExplainCommand)) {
+            return false;
+        }
+
+        ExplainCommand otherExplainCommand = (ExplainCommand) other;
+        return predicate.equals(otherExplainCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
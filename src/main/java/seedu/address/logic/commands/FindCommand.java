@@ -1,14 +1,26 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COMMISSION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRICE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRODUCT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SALARY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SKILL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
-import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
+ * Finds and lists all persons in address book whose name, or another free-text field, contains any of the
+ * argument keywords, or who carry all of the given tags and none of the excluded ones.
+ * Several criteria can be given at once, and persons must then satisfy all of them.
  * Keyword matching is case insensitive.
  */
 public class FindCommand extends Command {
@@ -18,11 +30,26 @@ public class FindCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Or, to find names by their start: PREFIX* [MORE_PREFIXES*]...\n"
+            + "Or, to find names despite typos: KEYWORD~ [MORE_KEYWORDS~]...\n"
+            + "Or, to find persons by tag: " + PREFIX_TAG + "TAG [" + PREFIX_TAG + "MORE_TAGS]... "
+            + "[" + PREFIX_TAG + "!EXCLUDED_TAG]...\n"
+            + "Or, to search another field: " + PREFIX_ADDRESS + "KEYWORD [MORE_KEYWORDS]... "
+            + "(likewise " + PREFIX_EMAIL + ", " + PREFIX_PRODUCT + " or " + PREFIX_SKILL + ")\n"
+            + "Or, to find by amount: " + PREFIX_SALARY + "[MIN]-[MAX] "
+            + "(likewise " + PREFIX_PRICE + " or " + PREFIX_COMMISSION + ")\n"
+            + "Criteria can be combined to find the persons satisfying all of them.\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " ali* ch*\n"
+            + "Example: " + COMMAND_WORD + " alise~\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_PRODUCT + "rice\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_SALARY + "20-\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_TAG + "friends " + PREFIX_TAG + "!owesMoney\n"
+            + "Example: " + COMMAND_WORD + " ali* " + PREFIX_TAG + "friends " + PREFIX_SALARY + "20-";
 
-    private final NameContainsKeywordsPredicate predicate;
+    private final Predicate<Person> predicate;
 
-    public FindCommand(NameContainsKeywordsPredicate predicate) {
+    public FindCommand(Predicate<Person> predicate) {
         this.predicate = predicate;
     }
 
@@ -0,0 +1,70 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.SortField;
+
+/**
+ * Sorts the displayed persons by a field, or shows them in the order they were added again.
+ */
+public class SortCommand extends Command {
+
+    public static final String COMMAND_WORD = "sort";
+
+    /** The field argument that restores the order the persons were added in. */
+    public static final String UNSORTED = "none";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the displayed persons by a field. "
+            + "Persons without the field are shown last.\n"
+            + "Parameters: FIELD (one of name, salary, price, commission, or " + UNSORTED
+            + " for the order they were added in)\n"
+            + "Example: " + COMMAND_WORD + " salary";
+
+    public static final String MESSAGE_SUCCESS = "Sorted persons by %1$s";
+    public static final String MESSAGE_UNSORTED = "Showing persons in the order they were added";
+
+    private final SortField field;
+
+    /**
+     * Creates a SortCommand that sorts by {@code field}, or restores the added order if {@code field} is null.
+     */
+    public SortCommand(SortField field) {
+        this.field = field;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.sortFilteredPersonList(field);
+        if (field == null) {
+            return new CommandResult(MESSAGE_UNSORTED);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, field.name().toLowerCase()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortCommand)) {
+            return false;
+        }
+
+        SortCommand otherSortCommand = (SortCommand) other;
+        return Objects.equals(field, otherSortCommand.field);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("field", field)
+                .toString();
+    }
+}
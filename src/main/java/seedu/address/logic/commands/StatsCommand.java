@@ -0,0 +1,60 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.stream.Collectors;
+
+import seedu.address.model.Model;
+import seedu.address.model.analytics.Aggregates;
+import seedu.address.model.person.Commission;
+import seedu.address.model.person.DollarAmount;
+import seedu.address.model.person.Role;
+import seedu.address.model.person.Salary;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Shows summary figures of the address book: counts per role and per tag, the total hourly wage of the staff and
+ * the average commission of the maintainers.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_SUCCESS = "Persons: %1$d (staff: %2$d, suppliers: %3$d, maintainers: %4$d, "
+            + "others: %5$d)\n"
+            + "Total staff wage: %6$s\n"
+            + "Average maintainer commission: %7$s\n"
+            + "Tags: %8$s";
+    public static final String MESSAGE_NONE = "none";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Aggregates aggregates = model.getAggregates();
+        OptionalLong averageCommission = aggregates.getAverageMaintainerCommissionCents();
+        return new CommandResult(String.format(MESSAGE_SUCCESS,
+                aggregates.getPersonCount(),
+                aggregates.getCount(Role.STAFF),
+                aggregates.getCount(Role.SUPPLIER),
+                aggregates.getCount(Role.MAINTAINER),
+                aggregates.getCount(Role.PERSON),
+                DollarAmount.format(aggregates.getTotalStaffSalaryCents(), Salary.UNIT),
+                averageCommission.isPresent()
+                        ? DollarAmount.format(averageCommission.getAsLong(), Commission.UNIT)
+                        : MESSAGE_NONE,
+                formatTagCounts(aggregates.getTagCounts())));
+    }
+
+    private static String formatTagCounts(Map<Tag, Integer> tagCounts) {
+        if (tagCounts.isEmpty()) {
+            return MESSAGE_NONE;
+        }
+        return tagCounts.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.comparing(tag -> tag.tagName)))
+                .map(entry -> entry.getKey().tagName + " " + entry.getValue())
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -43,7 +43,7 @@ public class AddCommandParser implements Parser<AddCommand> {
         Phone phone = ParserUtil.parsePhone(argMultimap.getValue(PREFIX_PHONE).get());
         Email email = ParserUtil.parseEmail(argMultimap.getValue(PREFIX_EMAIL).get());
         Address address = ParserUtil.parseAddress(argMultimap.getValue(PREFIX_ADDRESS).get());
-        Tag tag = new Tag("other");
+        Tag tag = Tag.of("other");
         Set<Tag> tags = new HashSet<>();
         tags.add(tag);
         Person person = new Person(name, phone, email, address, tags);
@@ -50,7 +50,7 @@ public class AddMaintainerCommandParser implements Parser<AddMaintainerCommand>
         Phone phone = ParserUtil.parsePhone(argMultimap.getValue(PREFIX_PHONE).get());
         Email email = ParserUtil.parseEmail(argMultimap.getValue(PREFIX_EMAIL).get());
         Address address = ParserUtil.parseAddress(argMultimap.getValue(PREFIX_ADDRESS).get());
-        Tag tag = new Tag("maintainer");
+        Tag tag = Tag.of("maintainer");
         Set<Tag> tags = new HashSet<>();
         tags.add(tag);
         Skill skill = ParserUtil.parseSkill(argMultimap.getValue(PREFIX_SKILL).get());
@@ -50,7 +50,7 @@ public class AddSupplierCommandParser implements Parser<AddSupplierCommand> {
         Phone phone = ParserUtil.parsePhone(argMultimap.getValue(PREFIX_PHONE).get());
         Email email = ParserUtil.parseEmail(argMultimap.getValue(PREFIX_EMAIL).get());
         Address address = ParserUtil.parseAddress(argMultimap.getValue(PREFIX_ADDRESS).get());
-        Tag tag = new Tag("supplier");
+        Tag tag = Tag.of("supplier");
         Set<Tag> tags = new HashSet<>();
         tags.add(tag);
         Price price = ParserUtil.parsePrice(argMultimap.getValue(PREFIX_PRICE).get());
@@ -1,33 +1,222 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COMMISSION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRICE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRODUCT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SALARY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SKILL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.index.AmountField;
+import seedu.address.model.index.TextField;
+import seedu.address.model.person.AmountInRangePredicate;
+import seedu.address.model.person.FieldContainsKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameSimilarToKeywordsPredicate;
+import seedu.address.model.person.NameStartsWithKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TagsMatchPredicate;
+import seedu.address.model.query.AndPredicate;
+import seedu.address.model.tag.Tag;
 
 /**
  * Parses input arguments and creates a new FindCommand object
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    public static final String MESSAGE_INVALID_RANGE = "Ranges should be whole-dollar amounts in the format MIN-MAX, "
+            + "where either bound may be left out, e.g. 20-50, $20- or -50";
+
+    /** Marks a tag that found persons must not carry, e.g. {@code t/!owesMoney}. */
+    public static final String EXCLUDED_TAG_MARKER = "!";
+
+    /** Marks a name keyword as a prefix of the words to find, e.g. {@code ali*}. */
+    public static final String PREFIX_SEARCH_MARKER = "*";
+
+    /** Marks a name keyword that may be misspelled, e.g. {@code alise~}. */
+    public static final String FUZZY_SEARCH_MARKER = "~";
+
+    /** Prefixes that search a single free-text field, e.g. {@code ; address : Clementi}. */
+    private static final Map<Prefix, TextField> FIELD_PREFIXES = Map.of(
+            PREFIX_ADDRESS, TextField.ADDRESS,
+            PREFIX_EMAIL, TextField.EMAIL,
+            PREFIX_PRODUCT, TextField.PRODUCT,
+            PREFIX_SKILL, TextField.SKILL);
+
+    /** Prefixes that search a single monetary field by range, e.g. {@code ; salary : 20-50}. */
+    private static final Map<Prefix, AmountField> RANGE_PREFIXES = Map.of(
+            PREFIX_SALARY, AmountField.SALARY,
+            PREFIX_PRICE, AmountField.PRICE,
+            PREFIX_COMMISSION, AmountField.COMMISSION);
+
+    /** Prefixes that search a single field, in the order their conditions are listed. */
+    private static final Prefix[] SEARCH_PREFIXES = {PREFIX_ADDRESS, PREFIX_EMAIL, PREFIX_PRODUCT, PREFIX_SKILL,
+            PREFIX_SALARY, PREFIX_PRICE, PREFIX_COMMISSION};
+
+    /** Separates the bounds of a range. */
+    private static final String RANGE_SEPARATOR = "-";
+
+    /** Matches a bound of a range: a whole-dollar amount, optionally starting with $, or nothing. */
+    private static final Pattern BOUND_FORMAT = Pattern.compile("\\$?(?<amount>\\d*)");
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
-        if (trimmedArgs.isEmpty()) {
+        return new FindCommand(parsePredicate(args));
+    }
+
+    /**
+     * Parses the given {@code String} of arguments into the predicate that found persons satisfy.
+     * Each criterion given becomes one condition, and persons must satisfy all of them.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public Predicate<Person> parsePredicate(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG, PREFIX_ADDRESS, PREFIX_EMAIL,
+                PREFIX_PRODUCT, PREFIX_SKILL, PREFIX_SALARY, PREFIX_PRICE, PREFIX_COMMISSION);
+        String trimmedArgs = argMultimap.getPreamble();
+        List<String> tagValues = argMultimap.getAllValues(PREFIX_TAG);
+        argMultimap.verifyNoDuplicatePrefixesFor(SEARCH_PREFIXES);
+
+        List<Predicate<Person>> conditions = new ArrayList<>();
+        if (!trimmedArgs.isEmpty()) {
+            conditions.add(parseNamePredicate(trimmedArgs));
+        }
+        if (!tagValues.isEmpty()) {
+            conditions.add(parseTagsMatchPredicate(tagValues));
+        }
+        for (Prefix fieldPrefix : SEARCH_PREFIXES) {
+            Optional<String> fieldArgs = argMultimap.getValue(fieldPrefix);
+            if (fieldArgs.isEmpty()) {
+                continue;
+            }
+            if (fieldArgs.get().isEmpty()) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+            if (RANGE_PREFIXES.containsKey(fieldPrefix)) {
+                conditions.add(parseAmountInRangePredicate(RANGE_PREFIXES.get(fieldPrefix), fieldArgs.get()));
+            } else {
+                conditions.add(new FieldContainsKeywordsPredicate(FIELD_PREFIXES.get(fieldPrefix),
+                        Arrays.asList(fieldArgs.get().split("\\s+"))));
+            }
+        }
+
+        if (conditions.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
+        return conditions.size() == 1 ? conditions.get(0) : new AndPredicate(conditions);
+    }
 
+    /**
+     * Parses {@code trimmedArgs} into a predicate over the words of names: by prefix if the keywords end with
+     * {@link #PREFIX_SEARCH_MARKER}, by similarity if they end with {@link #FUZZY_SEARCH_MARKER}, and as whole words
+     * otherwise.
+     */
+    private static Predicate<Person> parseNamePredicate(String trimmedArgs) throws ParseException {
         String[] nameKeywords = trimmedArgs.split("\\s+");
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        if (trimmedArgs.contains(PREFIX_SEARCH_MARKER)) {
+            return new NameStartsWithKeywordsPredicate(parseMarkedKeywords(nameKeywords, PREFIX_SEARCH_MARKER));
+        }
+
+        if (trimmedArgs.contains(FUZZY_SEARCH_MARKER)) {
+            return new NameSimilarToKeywordsPredicate(parseMarkedKeywords(nameKeywords, FUZZY_SEARCH_MARKER));
+        }
+
+        return new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords));
+    }
+
+    /**
+     * Returns {@code keywords} with the trailing {@code marker} removed from each.
+     * Every keyword must be non-empty and end with the marker, which may not appear anywhere else.
+     */
+    private static List<String> parseMarkedKeywords(String[] keywords, String marker) throws ParseException {
+        List<String> unmarkedKeywords = new ArrayList<>();
+        for (String keyword : keywords) {
+            String unmarkedKeyword = keyword.substring(0, keyword.length() - marker.length());
+            if (!keyword.endsWith(marker) || unmarkedKeyword.isEmpty()
+                    || unmarkedKeyword.contains(PREFIX_SEARCH_MARKER)
+                    || unmarkedKeyword.contains(FUZZY_SEARCH_MARKER)) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+            unmarkedKeywords.add(unmarkedKeyword);
+        }
+        return unmarkedKeywords;
+    }
+
+    /**
+     * Parses {@code range} into an {@code AmountInRangePredicate} over {@code field}.
+     * A single amount matches only itself, a missing lower bound means 0 and a missing upper bound means no limit.
+     * @throws ParseException if {@code range} is not in the expected format or a bound is too large.
+     */
+    private static AmountInRangePredicate parseAmountInRangePredicate(AmountField field, String range)
+            throws ParseException {
+        String[] bounds = range.split(RANGE_SEPARATOR, -1);
+        if (bounds.length > 2) {
+            throw new ParseException(MESSAGE_INVALID_RANGE);
+        }
+
+        String min = parseBound(bounds[0]);
+        String max = bounds.length == 1 ? min : parseBound(bounds[1]);
+        if (min.isEmpty() && max.isEmpty()) {
+            throw new ParseException(MESSAGE_INVALID_RANGE);
+        }
+        try {
+            return new AmountInRangePredicate(field, min.isEmpty() ? 0 : Long.parseLong(min),
+                    max.isEmpty() ? Long.MAX_VALUE : Long.parseLong(max));
+        } catch (NumberFormatException nfe) {
+            throw new ParseException(MESSAGE_INVALID_RANGE);
+        }
+    }
+
+    /**
+     * Returns the digits of {@code bound}, which may be empty.
+     * @throws ParseException if {@code bound} is not in the format of {@link #BOUND_FORMAT}.
+     */
+    private static String parseBound(String bound) throws ParseException {
+        Matcher matcher = BOUND_FORMAT.matcher(bound.trim());
+        if (!matcher.matches()) {
+            throw new ParseException(MESSAGE_INVALID_RANGE);
+        }
+        return matcher.group("amount");
+    }
+
+    /**
+     * Parses {@code tagValues} into a {@code TagsMatchPredicate}.
+     * Values starting with {@link #EXCLUDED_TAG_MARKER} name tags that must be absent.
+     */
+    private static TagsMatchPredicate parseTagsMatchPredicate(List<String> tagValues) throws ParseException {
+        Set<Tag> requiredTags = new HashSet<>();
+        Set<Tag> excludedTags = new HashSet<>();
+        for (String tagValue : tagValues) {
+            if (tagValue.startsWith(EXCLUDED_TAG_MARKER)) {
+                excludedTags.add(ParserUtil.parseTag(tagValue.substring(EXCLUDED_TAG_MARKER.length())));
+            } else {
+                requiredTags.add(ParserUtil.parseTag(tagValue));
+            }
+        }
+        return new TagsMatchPredicate(requiredTags, excludedTags);
     }
 
 }
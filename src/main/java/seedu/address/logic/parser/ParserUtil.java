@@ -113,7 +113,7 @@ public class ParserUtil {
         if (!Employment.isValidEmployment(trimmedEmployment)) {
             throw new ParseException(Employment.MESSAGE_CONSTRAINTS);
         }
-        return new Employment(trimmedEmployment);
+        return Employment.of(trimmedEmployment);
     }
 
     /**
@@ -143,7 +143,7 @@ public class ParserUtil {
         if (!Product.isValidProduct(trimmedProduct)) {
             throw new ParseException(Product.MESSAGE_CONSTRAINTS);
         }
-        return new Product(trimmedProduct);
+        return Product.of(trimmedProduct);
     }
 
     /**
@@ -173,7 +173,7 @@ public class ParserUtil {
         if (!Skill.isValidSkill(trimmedSkill)) {
             throw new ParseException(Skill.MESSAGE_CONSTRAINTS);
         }
-        return new Skill(trimmedSkill);
+        return Skill.of(trimmedSkill);
     }
 
     /**
@@ -203,7 +203,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -1,13 +1,31 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.analytics.Aggregates;
+import seedu.address.model.analytics.ColumnarSnapshot;
+import seedu.address.model.index.AddressBookIndex;
+import seedu.address.model.index.AmountField;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListSnapshot;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.query.QueryPlan;
+import seedu.address.model.query.QueryPlanner;
 
 /**
  * Wraps all data at the address-book level
@@ -16,6 +34,14 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final AddressBookIndex index;
+    private final Aggregates aggregates;
+
+    /** Incremented before every change to the persons, so that derived results can tell when they are stale. */
+    private long version;
+
+    /** The columnar copy of the persons for reporting, with the version it was built at. */
+    private volatile VersionedColumnarSnapshot columnarSnapshot;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -26,6 +52,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        index = new AddressBookIndex();
+        aggregates = new Aggregates();
     }
 
     public AddressBook() {}
@@ -45,7 +73,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
+        version++;
         this.persons.setPersons(persons);
+        index.reset(persons);
+        aggregates.reset(persons);
     }
 
     /**
@@ -54,7 +85,33 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
+        if (newData instanceof AddressBook) {
+            resetData(((AddressBook) newData).snapshot());
+        } else if (newData instanceof AddressBookSnapshot) {
+            // Already known to be unique, so its structures can be shared instead of validated again
+            version++;
+            PersonListSnapshot snapshot = ((AddressBookSnapshot) newData).getPersons();
+            persons.setPersons(snapshot);
+            index.reset(snapshot.asList());
+            aggregates.reset(snapshot.asList());
+        } else {
+            setPersons(newData.getPersonList());
+        }
+    }
+
+    /**
+     * Returns an immutable view of the current contents of this address book, taken in O(1).
+     * Later changes to this address book do not affect the snapshot.
+     */
+    public AddressBookSnapshot snapshot() {
+        return new AddressBookSnapshot(persons.snapshot(), version);
+    }
+
+    /**
+     * Returns the number of changes made to the persons so far, which is different after every change.
+     */
+    long getVersion() {
+        return version;
     }
 
     //// person-level operations
@@ -67,12 +124,71 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person in the address book whose name is equal to {@code name}, or null if there is no such person.
+     */
+    public Person getPersonByName(Name name) {
+        requireNonNull(name);
+        return persons.getByName(name);
+    }
+
+    /**
+     * Returns up to {@code limit} persons in the address book with a name word starting with {@code prefix},
+     * ignoring case. Persons whose matching word comes first alphabetically are returned first.
+     */
+    public List<Person> getPersonsByNamePrefix(String prefix, int limit) {
+        requireNonNull(prefix);
+        return index.getByNamePrefix(prefix, limit);
+    }
+
+    /**
+     * Returns up to {@code limit} persons in the address book with the highest {@code field}, or the lowest if
+     * {@code highestFirst} is false, in that order. Persons without the field are left out.
+     */
+    public List<Person> getTopByAmount(AmountField field, int limit, boolean highestFirst) {
+        requireNonNull(field);
+        return index.getTopByAmount(field, limit, highestFirst);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
+        version++;
         persons.add(p);
+        index.add(p);
+        aggregates.add(p);
+    }
+
+    /**
+     * Adds a person to the address book with {@code orderKey}, at the position in the person list that the key
+     * belongs, e.g. to put back a removed person where it was.
+     * The person must not already exist in the address book, and no person in it may hold {@code orderKey}.
+     *
+     * @see UniquePersonList#add(long, Person)
+     */
+    void restorePerson(long orderKey, Person p) {
+        version++;
+        persons.add(orderKey, p);
+        index.add(p);
+        aggregates.add(p);
+    }
+
+    /**
+     * Returns the order key of the person equal to {@code person}, which it keeps until it is removed.
+     *
+     * @throws PersonNotFoundException if no such person exists in the address book.
+     */
+    long getOrderKey(Person person) {
+        return persons.getOrderKey(person);
+    }
+
+    /**
+     * Returns the position in the person list of the person equal to {@code person}, or -1 if there is none.
+     */
+    int indexOf(Person person) {
+        return persons.indexOf(person);
     }
 
     /**
@@ -83,7 +199,11 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
+        version++;
         persons.setPerson(target, editedPerson);
+        index.replace(target, editedPerson);
+        aggregates.remove(target);
+        aggregates.add(editedPerson);
     }
 
     /**
@@ -91,7 +211,147 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
+        version++;
         persons.remove(key);
+        index.remove(key);
+        aggregates.remove(key);
+    }
+
+    /**
+     * Applies {@code mutations} in order, notifying listeners of the person list only once.
+     * Either every mutation is applied or, if any of them could not be, none are.
+     *
+     * @throws DuplicatePersonException if a mutation would add a person that already exists at that point.
+     * @throws PersonNotFoundException if a mutation replaces or removes a person that does not exist at that point.
+     */
+    public void applyBatch(List<PersonMutation> mutations) {
+        requireAllNonNull(mutations);
+        checkApplicable(mutations);
+        persons.applyBatch(() -> mutations.forEach(this::apply));
+    }
+
+    /**
+     * Checks that {@code mutations} can be applied in order, without changing this address book.
+     * Persons changed by earlier mutations are staged by name on top of the current persons.
+     */
+    private void checkApplicable(List<PersonMutation> mutations) {
+        Map<Name, Optional<Person>> staged = new HashMap<>();
+        Function<Name, Person> lookup = name -> staged.containsKey(name)
+                ? staged.get(name).orElse(null)
+                : persons.getByName(name);
+
+        for (PersonMutation mutation : mutations) {
+            Person target = mutation.getTarget();
+            Person editedPerson = mutation.getEditedPerson();
+            if (target != null) {
+                if (!target.equals(lookup.apply(target.getName()))) {
+                    throw new PersonNotFoundException();
+                }
+                staged.put(target.getName(), Optional.empty());
+            }
+            if (editedPerson != null) {
+                if (lookup.apply(editedPerson.getName()) != null) {
+                    throw new DuplicatePersonException();
+                }
+                staged.put(editedPerson.getName(), Optional.of(editedPerson));
+            }
+        }
+    }
+
+    private void apply(PersonMutation mutation) {
+        switch (mutation.getKind()) {
+        case ADD:
+            addPerson(mutation.getEditedPerson());
+            break;
+        case SET:
+            setPerson(mutation.getTarget(), mutation.getEditedPerson());
+            break;
+        case REMOVE:
+            removePerson(mutation.getTarget());
+            break;
+        default:
+            throw new AssertionError(mutation.getKind());
+        }
+    }
+
+    /**
+     * Runs {@code changes}, which must leave this address book valid, notifying listeners of the person list only
+     * once.
+     */
+    void applyUnchecked(Runnable changes) {
+        persons.applyBatch(changes);
+    }
+
+    //// index operations
+
+    /**
+     * Returns the positions in the person list of the persons that satisfy {@code predicate}, in increasing order.
+     * The matches are looked up from the indexes of this address book, and each one is placed in the list by its
+     * order key, so no person is tested and the cost grows with the number of matches rather than the list size.
+     */
+    public int[] resolve(IndexedPredicate predicate) {
+        requireNonNull(predicate);
+        List<Person> matches = index.getMatches(predicate);
+        int[] positions = new int[matches.size()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = persons.indexOf(matches.get(i));
+        }
+        Arrays.sort(positions);
+        return positions;
+    }
+
+    /**
+     * Returns the plan for finding the current persons that satisfy {@code predicate} from the indexes of this
+     * address book.
+     */
+    public QueryPlan plan(Predicate<Person> predicate) {
+        return QueryPlanner.plan(predicate, index);
+    }
+
+    //// analytics operations
+
+    /**
+     * Returns a copy of the running totals over the current persons, taken without scanning the persons.
+     */
+    public Aggregates getAggregates() {
+        return new Aggregates(aggregates);
+    }
+
+    /**
+     * Returns a columnar copy of the current persons for reporting.
+     * The copy is built on the first call after a change and reused by later calls until the next change.
+     */
+    public ColumnarSnapshot getColumnarSnapshot() {
+        return getColumnarSnapshot(snapshot());
+    }
+
+    /**
+     * Returns a columnar copy of the persons in {@code snapshot}, which must have been taken of this address book.
+     * The copy is reused by later calls with a snapshot of the same version. Only the immutable {@code snapshot} is
+     * read, so the copy can be built without holding off changes to the address book. Concurrent calls may each
+     * build a copy, but every copy they return is of the version asked for.
+     */
+    ColumnarSnapshot getColumnarSnapshot(AddressBookSnapshot snapshot) {
+        requireNonNull(snapshot);
+        VersionedColumnarSnapshot cached = columnarSnapshot;
+        if (cached == null || cached.version != snapshot.getVersion()) {
+            cached = new VersionedColumnarSnapshot(ColumnarSnapshot.of(snapshot), snapshot.getVersion());
+            columnarSnapshot = cached;
+        }
+        return cached.snapshot;
+    }
+
+    /**
+     * A columnar snapshot with the version of the address book it was built at.
+     */
+    private static class VersionedColumnarSnapshot {
+        private final ColumnarSnapshot snapshot;
+        private final long version;
+
+        VersionedColumnarSnapshot(ColumnarSnapshot snapshot, long version) {
+            this.snapshot = snapshot;
+            this.version = version;
+        }
     }
 
     //// util methods
@@ -0,0 +1,80 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonListSnapshot;
+
+/**
+ * An immutable, consistent view of an {@code AddressBook} at one version.
+ * Taken in O(1) by {@link AddressBook#snapshot()}, so that readers such as exporters and saves can work on it while
+ * the address book keeps changing.
+ */
+public final class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final PersonListSnapshot persons;
+    private final long version;
+    private final ObservableList<Person> personList;
+
+    AddressBookSnapshot(PersonListSnapshot persons, long version) {
+        this.persons = persons;
+        this.version = version;
+        this.personList = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons.asList()));
+    }
+
+    /**
+     * Returns the version of the address book that this snapshot was taken at.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the person in the snapshot whose name is equal to {@code name}, or null if there is no such person.
+     */
+    public Person getPersonByName(Name name) {
+        requireNonNull(name);
+        return persons.getByName(name);
+    }
+
+    PersonListSnapshot getPersons() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return personList;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookSnapshot)) {
+            return false;
+        }
+
+        AddressBookSnapshot otherSnapshot = (AddressBookSnapshot) other;
+        return persons.equals(otherSnapshot.persons);
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .add("version", version)
+                .toString();
+    }
+}
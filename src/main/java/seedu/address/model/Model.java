@@ -1,12 +1,18 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.analytics.Aggregates;
+import seedu.address.model.analytics.ColumnarSnapshot;
+import seedu.address.model.index.AmountField;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.query.QueryPlan;
 
 /**
  * The API of the Model component.
@@ -53,6 +59,32 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable view of the current contents of the address book, taken in O(1).
+     * Later changes to the address book do not affect the snapshot.
+     * Safe to call from any thread, even while the address book is being changed.
+     */
+    AddressBookSnapshot getAddressBookSnapshot();
+
+    /**
+     * Returns the result of {@code reader} on a snapshot of the current contents of the address book.
+     * The reader runs on the calling thread without holding any lock, so long reads such as exports and reports can
+     * run in the background while the address book keeps changing.
+     */
+    <T> T readAddressBook(Function<? super AddressBookSnapshot, ? extends T> reader);
+
+    /**
+     * Returns a columnar copy of the persons in the address book for reporting, rebuilt only after it changes.
+     * Safe to call from any thread.
+     */
+    ColumnarSnapshot getColumnarSnapshot();
+
+    /**
+     * Returns the running totals over the persons in the address book, such as counts per role and per tag.
+     * They are kept up to date on every change, so this takes no scan of the persons.
+     */
+    Aggregates getAggregates();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -77,14 +109,85 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Applies {@code mutations} in order as one change, so that views of the address book are updated once.
+     * Either every mutation is applied or, if any of them could not be, none are.
+     */
+    void applyBatch(List<PersonMutation> mutations);
+
+    /**
+     * Returns true if the model has a committed address book state to undo.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if the model has an undone address book state to redo.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Restores the address book to the state before the last commit.
+     */
+    void undoAddressBook();
+
+    /**
+     * Restores the address book to the state last undone.
+     */
+    void redoAddressBook();
+
+    /**
+     * Saves the changes to the address book since the last commit as a state that can be undone.
+     */
+    void commitAddressBook();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Sorts the filtered person list by {@code field}, and keeps it sorted as persons change.
+     * A null {@code field} shows the persons in the order of the address book again.
+     */
+    void sortFilteredPersonList(SortField field);
+
+    /**
+     * Returns up to {@code pageSize} consecutive persons of the filtered person list, starting just after the person
+     * {@code cursor} is anchored at, or at the first person for {@link PageCursor#START}.
+     * Pages stay consistent while persons are added or removed before the anchor. When the list is sorted, they
+     * continue after the anchor's place even if the anchor itself was removed; otherwise they continue from its last
+     * known position.
+     *
+     * @throws IllegalArgumentException if {@code pageSize} is not positive.
+     */
+    PersonPage getFilteredPersonPage(PageCursor cursor, int pageSize);
+
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Returns how {@link #updateFilteredPersonList(Predicate)} would find the persons satisfying {@code predicate}
+     * from the indexes of the address book, without changing the filtered person list.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    QueryPlan explainQuery(Predicate<Person> predicate);
+
+    /**
+     * Returns the person in the filtered person list whose name is equal to {@code targetName},
+     * or null if there is no such person.
+     */
     Person findByName(Name targetName);
+
+    /**
+     * Returns up to {@code limit} persons in the address book with a name word starting with {@code prefix},
+     * ignoring case. Persons whose matching word comes first alphabetically are returned first.
+     */
+    List<Person> findByNamePrefix(String prefix, int limit);
+
+    /**
+     * Returns up to {@code limit} persons in the address book with the highest {@code field}, or the lowest if
+     * {@code highestFirst} is false, in that order. Persons without the field are left out.
+     */
+    List<Person> findTopByAmount(AmountField field, int limit, boolean highestFirst);
 }
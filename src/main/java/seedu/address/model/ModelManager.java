@@ -4,25 +4,49 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.analytics.Aggregates;
+import seedu.address.model.analytics.ColumnarSnapshot;
+import seedu.address.model.index.AmountField;
+import seedu.address.model.index.IndexedPredicate;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.query.QueryPlan;
 
 /**
  * Represents the in-memory model of the address book data.
+ * Changes to the address book are made by one writer at a time, under the write lock of a {@code StampedLock}.
+ * Reads answered from the immutable structures of the address book, such as snapshots and lookups by name, are
+ * optimistic: they take no lock, and are retried under the read lock only if a change ran concurrently.
+ * The observable lists must still only be used from the JavaFX application thread.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
-    private final AddressBook addressBook;
+    private final VersionedAddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
+    private final RefinableFilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedPersons;
+    private final StampedLock lock = new StampedLock();
+
+    /** The results of recent queries of the filtered person list. Only used from the JavaFX application thread. */
+    private final QueryCache queryCache = new QueryCache();
+
+    /** The predicate last given to {@link #updateFilteredPersonList}, which the filtered persons satisfy. */
+    private Predicate<Person> filteredPersonsQuery = PREDICATE_SHOW_ALL_PERSONS;
+
+    /** The sort keys of the persons for the current sort order, or null if the persons are shown in list order. */
+    private SortKeys sortKeys;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -32,9 +56,10 @@ public class ModelManager implements Model {
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
+        this.addressBook = new VersionedAddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        filteredPersons = new RefinableFilteredList<>(this.addressBook.getPersonList());
+        sortedPersons = new SortedList<>(filteredPersons);
     }
 
     public ModelManager() {
@@ -80,7 +105,7 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
-        this.addressBook.resetData(addressBook);
+        write(() -> this.addressBook.resetData(addressBook));
     }
 
     @Override
@@ -88,20 +113,42 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public AddressBookSnapshot getAddressBookSnapshot() {
+        return readOptimistically(addressBook::snapshot);
+    }
+
+    @Override
+    public <T> T readAddressBook(Function<? super AddressBookSnapshot, ? extends T> reader) {
+        requireNonNull(reader);
+        return reader.apply(getAddressBookSnapshot());
+    }
+
+    @Override
+    public ColumnarSnapshot getColumnarSnapshot() {
+        // Only the O(1) snapshot is taken under the lock; the copy is built from it without blocking changes
+        return addressBook.getColumnarSnapshot(getAddressBookSnapshot());
+    }
+
+    @Override
+    public Aggregates getAggregates() {
+        return read(addressBook::getAggregates);
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
-        return addressBook.hasPerson(person);
+        return readOptimistically(() -> addressBook.hasPerson(person));
     }
 
     @Override
     public void deletePerson(Person target) {
-        addressBook.removePerson(target);
+        write(() -> addressBook.removePerson(target));
     }
 
     @Override
     public void addPerson(Person person) {
-        addressBook.addPerson(person);
+        write(() -> addressBook.addPerson(person));
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -109,24 +156,224 @@ public class ModelManager implements Model {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        addressBook.setPerson(target, editedPerson);
+        write(() -> addressBook.setPerson(target, editedPerson));
+    }
+
+    @Override
+    public void applyBatch(List<PersonMutation> mutations) {
+        requireAllNonNull(mutations);
+
+        write(() -> addressBook.applyBatch(mutations));
+        if (mutations.stream().anyMatch(mutation -> mutation.getKind() == PersonMutation.Kind.ADD)) {
+            updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        }
+    }
+
+    //=========== Undo/Redo ================================================================================
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return read(addressBook::canUndo);
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return read(addressBook::canRedo);
+    }
+
+    @Override
+    public void undoAddressBook() {
+        write(addressBook::undo);
+    }
+
+    @Override
+    public void redoAddressBook() {
+        write(addressBook::redo);
+    }
+
+    @Override
+    public void commitAddressBook() {
+        write(addressBook::commit);
+    }
+
+    //=========== Locking ====================================================================================
+
+    /**
+     * Runs {@code change} to the address book under the write lock.
+     */
+    private void write(Runnable change) {
+        long stamp = lock.writeLock();
+        try {
+            change.run();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the result of {@code query} on the address book, computed under the read lock.
+     */
+    private <T> T read(Query<T> query) {
+        long stamp = lock.readLock();
+        try {
+            return query.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns the result of {@code query} on the address book, computed without a lock if no change runs
+     * concurrently, or under the read lock otherwise.
+     * {@code query} must only read the immutable structures of the address book, so that a concurrent change can
+     * at worst make it return a stale result, which is then discarded.
+     */
+    private <T> T readOptimistically(Query<T> query) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                T result = query.get();
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                if (lock.validate(stamp)) {
+                    throw e;
+                }
+            }
+        }
+        return read(query);
+    }
+
+    /**
+     * A read of the address book that returns a result.
+     */
+    @FunctionalInterface
+    private interface Query<T> {
+        T get();
     }
 
     //=========== Filtered Person List Accessors =============================================================
 
     /**
      * Returns an unmodifiable view of the list of {@code Person} backed by the internal list of
-     * {@code versionedAddressBook}
+     * {@code versionedAddressBook}, in the current sort order
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
+    /**
+     * {@inheritDoc}
+     * The sort key of each person is computed once, and recomputed only for persons added or edited later, so that
+     * keeping the list sorted after a single edit takes O(log n) comparisons.
+     */
+    @Override
+    public void sortFilteredPersonList(SortField field) {
+        if (sortKeys != null) {
+            addressBook.getPersonList().removeListener(sortKeys);
+            sortKeys = null;
+        }
+        if (field == null) {
+            sortedPersons.setComparator(null);
+            return;
+        }
+        sortKeys = new SortKeys(field, addressBook.getPersonList());
+        addressBook.getPersonList().addListener(sortKeys);
+        sortedPersons.setComparator(sortKeys.comparator());
+    }
+
+    /**
+     * {@inheritDoc}
+     * The anchor of the cursor is looked for at its last known position first, so that paging through an unchanged
+     * list takes O(page size) per page.
+     */
+    @Override
+    public PersonPage getFilteredPersonPage(PageCursor cursor, int pageSize) {
+        requireNonNull(cursor);
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+
+        int start = findPageStart(cursor);
+        int end = start + Math.min(pageSize, sortedPersons.size() - start);
+        PageCursor nextCursor = end < sortedPersons.size() ? new PageCursor(sortedPersons.get(end - 1), end - 1) : null;
+        return new PersonPage(sortedPersons.subList(start, end), nextCursor);
+    }
+
+    /**
+     * Returns the position in the filtered person list just after the anchor of {@code cursor}.
+     */
+    private int findPageStart(PageCursor cursor) {
+        Person anchor = cursor.getAnchor();
+        if (anchor == null) {
+            return 0;
+        }
+        int position = cursor.getPosition();
+        if (position < sortedPersons.size() && sortedPersons.get(position) == anchor) {
+            return position + 1;
+        }
+
+        Comparator<? super Person> comparator = sortedPersons.getComparator();
+        if (comparator != null) {
+            // The list is in comparator order, so where the anchor belongs can be found even if it is gone
+            int low = 0;
+            int high = sortedPersons.size();
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (comparator.compare(sortedPersons.get(middle), anchor) <= 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        int sourceIndex = read(() -> addressBook.indexOf(anchor));
+        int viewIndex = sourceIndex < 0 ? -1 : filteredPersons.getViewIndex(sourceIndex);
+        return viewIndex >= 0 ? viewIndex + 1 : Math.min(position, sortedPersons.size());
+    }
+
+    //=========== Filtered Person List Filters ===============================================================
+
+    /**
+     * {@inheritDoc}
+     * A query run again while the address book is unchanged takes its result from a cache of recent results,
+     * without testing or looking up any person.
+     * Otherwise, a predicate that refines the current one only re-tests the persons currently in the list, and a
+     * predicate that can be answered from the indexes of the address book is looked up there.
+     */
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        // Showing every person tests nothing, so caching its result would save no work
+        boolean isCacheable = predicate != PREDICATE_SHOW_ALL_PERSONS;
+        long version = readOptimistically(addressBook::getVersion);
+        int[] cachedResult = isCacheable ? queryCache.get(predicate, version) : null;
+
+        if (cachedResult != null) {
+            filteredPersons.setPredicate(predicate, cachedResult);
+        } else if (predicate instanceof RefinablePredicate
+                && ((RefinablePredicate) predicate).refines(filteredPersonsQuery)) {
+            filteredPersons.refine(predicate);
+        } else if (predicate instanceof IndexedPredicate) {
+            filteredPersons.setPredicate(predicate, read(() -> addressBook.resolve((IndexedPredicate) predicate)));
+        } else {
+            filteredPersons.setPredicate(predicate);
+        }
+
+        if (isCacheable && cachedResult == null) {
+            queryCache.put(predicate, version, filteredPersons.getSourceIndices());
+        }
+        filteredPersonsQuery = predicate;
+    }
+
+    @Override
+    public QueryPlan explainQuery(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        return read(() -> addressBook.plan(predicate));
     }
 
     @Override
@@ -148,13 +395,26 @@ public class ModelManager implements Model {
 
     @Override
     public Person findByName(Name targetName) {
-        for (Person person: filteredPersons) {
-            Name name = person.getName();
-            if (name.equals(targetName)) {
-                return person;
-            }
+        requireNonNull(targetName);
+        Person person = readOptimistically(() -> addressBook.getPersonByName(targetName));
+        if (person == null) {
+            return null;
         }
-        return null;
+
+        Predicate<? super Person> predicate = filteredPersons.getPredicate();
+        return predicate == null || predicate.test(person) ? person : null;
+    }
+
+    @Override
+    public List<Person> findByNamePrefix(String prefix, int limit) {
+        requireNonNull(prefix);
+        return read(() -> addressBook.getPersonsByNamePrefix(prefix, limit));
+    }
+
+    @Override
+    public List<Person> findTopByAmount(AmountField field, int limit, boolean highestFirst) {
+        requireNonNull(field);
+        return read(() -> addressBook.getTopByAmount(field, limit, highestFirst));
     }
 
 }
@@ -0,0 +1,72 @@
+package seedu.address.model;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * A position in the filtered person list from which the next page starts, just after the person it is anchored at.
+ * Anchoring at a person instead of an offset keeps pages stable while persons are added or removed elsewhere in the
+ * list: the next page starts after the same person even if it has moved.
+ *
+ * @see Model#getFilteredPersonPage(PageCursor, int)
+ */
+public final class PageCursor {
+
+    /** The cursor before the first person of the list. */
+    public static final PageCursor START = new PageCursor(null, -1);
+
+    private final Person anchor;
+    private final int position;
+
+    /**
+     * Creates a cursor just after {@code anchor}, which was at {@code position} of the list when the cursor was made.
+     */
+    PageCursor(Person anchor, int position) {
+        this.anchor = anchor;
+        this.position = position;
+    }
+
+    /**
+     * Returns the person the next page starts after, or null if it starts at the first person.
+     */
+    Person getAnchor() {
+        return anchor;
+    }
+
+    /**
+     * Returns the position of the anchor when the cursor was made, which is checked first when finding it again.
+     */
+    int getPosition() {
+        return position;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PageCursor)) {
+            return false;
+        }
+
+        PageCursor otherCursor = (PageCursor) other;
+        return Objects.equals(anchor, otherCursor.anchor) && position == otherCursor.position;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(anchor, position);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("anchor", anchor == null ? null : anchor.getName())
+                .add("position", position)
+                .toString();
+    }
+}
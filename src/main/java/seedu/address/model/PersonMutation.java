@@ -0,0 +1,106 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * A single change to the persons of an address book, to be applied as part of a batch.
+ *
+ * @see Model#applyBatch(java.util.List)
+ */
+public class PersonMutation {
+
+    /**
+     * The kinds of change a {@code PersonMutation} can make.
+     */
+    public enum Kind { ADD, SET, REMOVE }
+
+    private final Kind kind;
+    private final Person target;
+    private final Person editedPerson;
+
+    private PersonMutation(Kind kind, Person target, Person editedPerson) {
+        this.kind = kind;
+        this.target = target;
+        this.editedPerson = editedPerson;
+    }
+
+    /**
+     * Returns a mutation that adds {@code person}, which must not already exist in the address book.
+     */
+    public static PersonMutation add(Person person) {
+        requireNonNull(person);
+        return new PersonMutation(Kind.ADD, null, person);
+    }
+
+    /**
+     * Returns a mutation that replaces {@code target}, which must exist in the address book, with
+     * {@code editedPerson}, whose identity must not be the same as another person in the address book.
+     */
+    public static PersonMutation set(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        return new PersonMutation(Kind.SET, target, editedPerson);
+    }
+
+    /**
+     * Returns a mutation that removes {@code person}, which must exist in the address book.
+     */
+    public static PersonMutation remove(Person person) {
+        requireNonNull(person);
+        return new PersonMutation(Kind.REMOVE, person, null);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the person that is replaced or removed, or null if this mutation adds a person.
+     */
+    public Person getTarget() {
+        return target;
+    }
+
+    /**
+     * Returns the person that is added or replaces the target, or null if this mutation removes a person.
+     */
+    public Person getEditedPerson() {
+        return editedPerson;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonMutation)) {
+            return false;
+        }
+
+        PersonMutation otherMutation = (PersonMutation) other;
+        return kind == otherMutation.kind
+                && Objects.equals(target, otherMutation.target)
+                && Objects.equals(editedPerson, otherMutation.editedPerson);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, target, editedPerson);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("kind", kind)
+                .add("target", target)
+                .add("editedPerson", editedPerson)
+                .toString();
+    }
+}
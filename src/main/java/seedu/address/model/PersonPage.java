@@ -0,0 +1,72 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * A page of consecutive persons of the filtered person list, with the cursor to fetch the page after it.
+ */
+public final class PersonPage {
+
+    private final List<Person> persons;
+    private final PageCursor nextCursor;
+
+    /**
+     * Creates a page of {@code persons}, followed by the page at {@code nextCursor}, or by no more persons if
+     * {@code nextCursor} is null.
+     */
+    PersonPage(List<Person> persons, PageCursor nextCursor) {
+        requireNonNull(persons);
+        this.persons = List.copyOf(persons);
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Returns the persons on this page, in list order, as an unmodifiable list.
+     */
+    public List<Person> getPersons() {
+        return persons;
+    }
+
+    /**
+     * Returns the cursor of the next page, or an empty {@code Optional} if there were no more persons after this
+     * page when it was fetched.
+     */
+    public Optional<PageCursor> getNextCursor() {
+        return Optional.ofNullable(nextCursor);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonPage)) {
+            return false;
+        }
+
+        PersonPage otherPage = (PersonPage) other;
+        return persons.equals(otherPage.persons) && Objects.equals(nextCursor, otherPage.nextCursor);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(persons, nextCursor);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .add("nextCursor", nextCursor)
+                .toString();
+    }
+}
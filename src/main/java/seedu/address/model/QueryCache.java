@@ -0,0 +1,89 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.query.QueryPlanner;
+
+/**
+ * A least-recently-used cache of the results of recent queries of the filtered person list.
+ * Each result is the source indices of the matching persons in the person list of the address book, keyed by the
+ * normalized query, and is valid only at the version of the address book it was computed at. Results of other
+ * versions are discarded when looked up, so any change to the persons invalidates every cached result.
+ */
+class QueryCache {
+
+    /** The number of results kept by default, enough for the handful of searches that are run again and again. */
+    static final int DEFAULT_CAPACITY = 32;
+
+    private final Map<Predicate<Person>, CachedResult> results;
+
+    /**
+     * Creates an empty cache that keeps up to {@code capacity} results.
+     */
+    QueryCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        results = new LinkedHashMap<>(capacity * 4 / 3 + 1, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Predicate<Person>, CachedResult> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    QueryCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Returns the source indices of the persons matching {@code query} at {@code version}, or null if they are not
+     * cached. The returned array must not be modified.
+     */
+    int[] get(Predicate<Person> query, long version) {
+        Predicate<Person> key = QueryPlanner.normalize(query);
+        CachedResult result = results.get(key);
+        if (result == null) {
+            return null;
+        }
+        if (result.version != version) {
+            results.remove(key);
+            return null;
+        }
+        return result.sourceIndices;
+    }
+
+    /**
+     * Caches {@code sourceIndices} as the source indices of the persons matching {@code query} at {@code version},
+     * evicting the least recently used result if the cache is full.
+     */
+    void put(Predicate<Person> query, long version, int[] sourceIndices) {
+        requireNonNull(sourceIndices);
+        results.put(QueryPlanner.normalize(query), new CachedResult(version, sourceIndices));
+    }
+
+    /**
+     * Returns the number of results cached, including ones that are no longer valid.
+     */
+    int size() {
+        return results.size();
+    }
+
+    /**
+     * The source indices of the persons matching a query, with the version of the address book they were taken at.
+     */
+    private static class CachedResult {
+        private final long version;
+        private final int[] sourceIndices;
+
+        CachedResult(long version, int[] sourceIndices) {
+            this.version = version;
+            this.sourceIndices = sourceIndices;
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A filtered view of an {@code ObservableList}, like {@code FilteredList}, that can also be narrowed cheaply.
+ * {@link #refine(Predicate)} re-tests only the elements currently in view, so narrowing a search costs time
+ * proportional to the current result rather than to the source list.
+ * Changes to the source list re-test only the elements that changed.
+ *
+ * @param <E> the type of the elements
+ */
+public class RefinableFilteredList<E> extends TransformationList<E, E> {
+
+    private static final Predicate<Object> ALWAYS_TRUE = unused -> true;
+
+    /** Source indices of the elements in view, in increasing order. Only the first {@code size} are used. */
+    private int[] filtered;
+    private int size;
+    private Predicate<? super E> predicate;
+
+    /**
+     * Creates a view of {@code source} showing the elements accepted by {@code predicate}.
+     * A null predicate shows every element.
+     */
+    public RefinableFilteredList(ObservableList<E> source, Predicate<? super E> predicate) {
+        super(source);
+        this.predicate = predicate == null ? ALWAYS_TRUE : predicate;
+        filtered = new int[source.size() * 3 / 2 + 1];
+        refilter();
+    }
+
+    /**
+     * Creates a view of {@code source} showing every element.
+     */
+    public RefinableFilteredList(ObservableList<E> source) {
+        this(source, null);
+    }
+
+    /**
+     * Returns the predicate that elements in view satisfy, or null if every element is shown.
+     */
+    public Predicate<? super E> getPredicate() {
+        return predicate == ALWAYS_TRUE ? null : predicate;
+    }
+
+    /**
+     * Shows the elements of the source list accepted by {@code predicate}, testing every one of them.
+     * A null predicate shows every element.
+     */
+    public void setPredicate(Predicate<? super E> predicate) {
+        this.predicate = predicate == null ? ALWAYS_TRUE : predicate;
+        List<E> removed = new ArrayList<>(this);
+        refilter();
+
+        beginChange();
+        nextRemove(0, removed);
+        nextAdd(0, size);
+        endChange();
+    }
+
+    /**
+     * Shows the elements of the source list at {@code sourceIndices} without testing any of them.
+     * {@code sourceIndices} must be in increasing order and be exactly the positions of the elements accepted by
+     * {@code predicate}, which is used to test the elements that change later, e.g. indices from
+     * {@link #getSourceIndices()} taken while the source list held the same elements.
+     */
+    public void setPredicate(Predicate<? super E> predicate, int[] sourceIndices) {
+        requireNonNull(predicate);
+        requireNonNull(sourceIndices);
+        this.predicate = predicate;
+        List<E> removed = new ArrayList<>(this);
+        ensureCapacity(sourceIndices.length);
+        System.arraycopy(sourceIndices, 0, filtered, 0, sourceIndices.length);
+        size = sourceIndices.length;
+
+        beginChange();
+        nextRemove(0, removed);
+        nextAdd(0, size);
+        endChange();
+    }
+
+    /**
+     * Returns the source indices of the elements in view, in increasing order.
+     */
+    public int[] getSourceIndices() {
+        return Arrays.copyOf(filtered, size);
+    }
+
+    /**
+     * Shows the elements in view that are accepted by {@code predicate}, testing only those elements.
+     * {@code predicate} must accept no element that the current predicate rejects, as elements out of view are not
+     * reconsidered.
+     */
+    public void refine(Predicate<? super E> predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+
+        beginChange();
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            E element = getSource().get(filtered[i]);
+            if (predicate.test(element)) {
+                filtered[kept++] = filtered[i];
+            } else {
+                nextRemove(kept, element);
+            }
+        }
+        size = kept;
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return getSource().get(filtered[index]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return filtered[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        int position = Arrays.binarySearch(filtered, 0, size, index);
+        return position >= 0 ? position : -1;
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends E> c) {
+        beginChange();
+        while (c.next()) {
+            if (c.wasPermutated()) {
+                permute(c);
+            } else if (c.wasUpdated()) {
+                update(c);
+            } else {
+                removeAndAdd(c);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Re-tests every element of the source list.
+     */
+    private void refilter() {
+        ensureCapacity(getSource().size());
+        size = 0;
+        for (int i = 0; i < getSource().size(); i++) {
+            if (predicate.test(getSource().get(i))) {
+                filtered[size++] = i;
+            }
+        }
+    }
+
+    private void permute(Change<? extends E> c) {
+        List<E> removed = new ArrayList<>(this);
+        for (int i = 0; i < size; i++) {
+            filtered[i] = c.getPermutation(filtered[i]);
+        }
+        Arrays.sort(filtered, 0, size);
+        nextRemove(0, removed);
+        nextAdd(0, size);
+    }
+
+    private void update(Change<? extends E> c) {
+        for (int sourceIndex = c.getFrom(); sourceIndex < c.getTo(); sourceIndex++) {
+            int position = Arrays.binarySearch(filtered, 0, size, sourceIndex);
+            boolean isMatch = predicate.test(getSource().get(sourceIndex));
+            if (position >= 0 && isMatch) {
+                nextUpdate(position);
+            } else if (position >= 0) {
+                E element = getSource().get(sourceIndex);
+                System.arraycopy(filtered, position + 1, filtered, position, size - position - 1);
+                size--;
+                nextRemove(position, element);
+            } else if (isMatch) {
+                int insertion = -position - 1;
+                insertAt(insertion, sourceIndex);
+                nextAdd(insertion, insertion + 1);
+            }
+        }
+    }
+
+    private void removeAndAdd(Change<? extends E> c) {
+        int from = c.getFrom();
+        int start = lowerBound(from);
+
+        // Drop the removed elements that were in view
+        int end = lowerBound(from + c.getRemovedSize());
+        if (end > start) {
+            List<E> removed = new ArrayList<>(end - start);
+            for (int i = start; i < end; i++) {
+                removed.add(c.getRemoved().get(filtered[i] - from));
+            }
+            System.arraycopy(filtered, end, filtered, start, size - end);
+            size -= end - start;
+            nextRemove(start, removed);
+        }
+
+        // Shift the elements after the change
+        int shift = c.getAddedSize() - c.getRemovedSize();
+        for (int i = start; i < size; i++) {
+            filtered[i] += shift;
+        }
+
+        // Add the added elements that match
+        int position = start;
+        for (int sourceIndex = from; sourceIndex < c.getTo(); sourceIndex++) {
+            if (predicate.test(getSource().get(sourceIndex))) {
+                insertAt(position++, sourceIndex);
+            }
+        }
+        if (position > start) {
+            nextAdd(start, position);
+        }
+    }
+
+    /**
+     * Returns the position of the first element in view whose source index is at least {@code sourceIndex}.
+     */
+    private int lowerBound(int sourceIndex) {
+        int position = Arrays.binarySearch(filtered, 0, size, sourceIndex);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    private void insertAt(int position, int sourceIndex) {
+        ensureCapacity(size + 1);
+        System.arraycopy(filtered, position, filtered, position + 1, size - position);
+        filtered[position] = sourceIndex;
+        size++;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (filtered.length < capacity) {
+            filtered = Arrays.copyOf(filtered, Math.max(capacity, filtered.length * 3 / 2 + 1));
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package seedu.address.model;
+
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code Predicate<Person>} that can tell when it narrows down another predicate, so that a list already filtered
+ * by the other predicate can be filtered further without reconsidering the persons it left out.
+ */
+public interface RefinablePredicate extends Predicate<Person> {
+
+    /**
+     * Returns true if every person accepted by this predicate is also accepted by {@code other}.
+     * May return false when this cannot be told cheaply.
+     */
+    boolean refines(Predicate<Person> other);
+}
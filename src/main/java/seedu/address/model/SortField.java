@@ -0,0 +1,33 @@
+package seedu.address.model;
+
+import seedu.address.model.index.AmountField;
+import seedu.address.model.person.Person;
+
+/**
+ * The fields the persons list can be sorted by.
+ * Persons are sorted by name within equal amounts, and persons without the amount come last.
+ */
+public enum SortField {
+    NAME(null),
+    SALARY(AmountField.SALARY),
+    PRICE(AmountField.PRICE),
+    COMMISSION(AmountField.COMMISSION);
+
+    private final AmountField amountField;
+
+    SortField(AmountField amountField) {
+        this.amountField = amountField;
+    }
+
+    /**
+     * Returns the key that orders {@code person} by this field.
+     */
+    SortKeys.SortKey keyOf(Person person) {
+        long amount = 0;
+        if (amountField != null) {
+            Long cents = amountField.centsOf(person);
+            amount = cents == null ? Long.MAX_VALUE : cents;
+        }
+        return new SortKeys.SortKey(amount, person.getName().getKey());
+    }
+}
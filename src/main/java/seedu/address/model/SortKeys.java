@@ -0,0 +1,71 @@
+package seedu.address.model;
+
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.person.Person;
+
+/**
+ * The sort keys of the persons in a list for one {@code SortField}, each computed once per person.
+ * Sorting then compares two primitive amounts or two lowercase names per comparison, without reading any fields
+ * of the persons themselves. Keys of persons replaced or removed from the list are dropped as the list changes.
+ */
+class SortKeys implements ListChangeListener<Person> {
+
+    private final SortField field;
+    private final Map<Person, SortKey> keys = new IdentityHashMap<>();
+
+    /**
+     * Creates the sort keys by {@code field} of the current {@code persons}.
+     */
+    SortKeys(SortField field, List<Person> persons) {
+        this.field = field;
+        persons.forEach(person -> keys.put(person, field.keyOf(person)));
+    }
+
+    /**
+     * Returns a comparator that orders persons by their sort keys.
+     */
+    Comparator<Person> comparator() {
+        return (first, second) -> keyOf(first).compareTo(keyOf(second));
+    }
+
+    /**
+     * Returns the sort key of {@code person}, computing it if the person has none yet.
+     * A person being removed may already have lost its key, so a missing key is computed without being kept.
+     */
+    private SortKey keyOf(Person person) {
+        SortKey key = keys.get(person);
+        return key != null ? key : field.keyOf(person);
+    }
+
+    @Override
+    public void onChanged(Change<? extends Person> change) {
+        while (change.next()) {
+            change.getRemoved().forEach(keys::remove);
+            change.getAddedSubList().forEach(person -> keys.put(person, field.keyOf(person)));
+        }
+    }
+
+    /**
+     * The position of a person in the sort order: an amount in cents, then a case-insensitive name.
+     */
+    static final class SortKey implements Comparable<SortKey> {
+        private final long amount;
+        private final String name;
+
+        SortKey(long amount, String name) {
+            this.amount = amount;
+            this.name = name;
+        }
+
+        @Override
+        public int compareTo(SortKey other) {
+            int byAmount = Long.compare(amount, other.amount);
+            return byAmount != 0 ? byAmount : name.compareTo(other.name);
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import seedu.address.model.person.Person;
+
+/**
+ * An {@code AddressBook} that remembers its committed states so that changes can be undone and redone.
+ * Each commit stores only the changes made since the previous commit, as deltas of the persons added, replaced and
+ * removed, so the history grows with the persons changed rather than with the size of the book.
+ * Added and removed persons are recorded with their order keys, which tell where they belong in the person list, so
+ * undoing or redoing a commit costs O(log n) for each person changed, without looking up any position by a scan.
+ * Whole-book replacements are stored as a pair of O(1) snapshots, and restoring one re-indexes the whole book.
+ *
+ * The history is bounded by the number of person records it holds. When a commit takes it over the bound, the
+ * oldest commits are forgotten first. A whole-book replacement counts as a single record, as its snapshots share
+ * their structure with the states around them.
+ */
+public class VersionedAddressBook extends AddressBook {
+
+    /** The default bound on the number of person records kept by the history. */
+    public static final long DEFAULT_MAX_RECORDS = 200_000;
+
+    private final long maxRecords;
+    private final Deque<Delta> undoStack = new ArrayDeque<>();
+    private final Deque<Delta> redoStack = new ArrayDeque<>();
+    private List<Change> pendingChanges = new ArrayList<>();
+    private long recordCount;
+    private boolean isRecording = true;
+
+    /**
+     * Creates a {@code VersionedAddressBook} with the persons of {@code initialState} and an empty history of at
+     * most {@code maxRecords} person records.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState, long maxRecords) {
+        requireNonNull(initialState);
+        if (maxRecords < 0) {
+            throw new IllegalArgumentException("History bound cannot be negative");
+        }
+        this.maxRecords = maxRecords;
+        withoutRecording(() -> resetData(initialState));
+    }
+
+    /**
+     * Creates a {@code VersionedAddressBook} with the persons of {@code initialState} and an empty history of at
+     * most {@link #DEFAULT_MAX_RECORDS} person records.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState) {
+        this(initialState, DEFAULT_MAX_RECORDS);
+    }
+
+    //// versioning operations
+
+    /**
+     * Saves the changes made since the last commit as a state that can be undone.
+     * Does nothing if there are no such changes. Any undone states can no longer be redone.
+     */
+    public void commit() {
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+        undoStack.push(new Delta(pendingChanges));
+        recordCount += undoStack.peek().records;
+        pendingChanges = new ArrayList<>();
+
+        while (!redoStack.isEmpty()) {
+            recordCount -= redoStack.pop().records;
+        }
+        while (recordCount > maxRecords && !undoStack.isEmpty()) {
+            recordCount -= undoStack.removeLast().records;
+        }
+    }
+
+    public boolean canUndo() {
+        return !undoStack.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoStack.isEmpty();
+    }
+
+    /**
+     * Restores the state before the last committed changes, discarding any uncommitted changes first.
+     *
+     * @throws IllegalStateException if there is no committed state to undo.
+     */
+    public void undo() {
+        if (!canUndo()) {
+            throw new IllegalStateException("No state to undo");
+        }
+        discardPendingChanges();
+        Delta delta = undoStack.pop();
+        undoChanges(delta.changes);
+        redoStack.push(delta);
+    }
+
+    /**
+     * Reapplies the changes last undone, discarding any uncommitted changes first.
+     *
+     * @throws IllegalStateException if there is no undone state to redo.
+     */
+    public void redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("No state to redo");
+        }
+        discardPendingChanges();
+        Delta delta = redoStack.pop();
+        withoutRecording(() -> applyUnchecked(() -> delta.changes.forEach(change -> change.redo(this))));
+        undoStack.push(delta);
+    }
+
+    //// recorded operations
+
+    @Override
+    public void setPersons(List<Person> persons) {
+        AddressBookSnapshot before = snapshot();
+        withoutRecording(() -> super.setPersons(persons));
+        record(new Reset(before, snapshot()));
+    }
+
+    @Override
+    public void resetData(ReadOnlyAddressBook newData) {
+        AddressBookSnapshot before = snapshot();
+        withoutRecording(() -> super.resetData(newData));
+        record(new Reset(before, snapshot()));
+    }
+
+    @Override
+    public void addPerson(Person p) {
+        super.addPerson(p);
+        record(new Add(getOrderKey(p), p));
+    }
+
+    @Override
+    public void setPerson(Person target, Person editedPerson) {
+        super.setPerson(target, editedPerson);
+        record(new Replace(target, editedPerson));
+    }
+
+    @Override
+    public void removePerson(Person key) {
+        long orderKey = getOrderKey(key);
+        super.removePerson(key);
+        record(new Remove(orderKey, key));
+    }
+
+    private void record(Change change) {
+        if (isRecording) {
+            pendingChanges.add(change);
+        }
+    }
+
+    private void withoutRecording(Runnable action) {
+        boolean wasRecording = isRecording;
+        isRecording = false;
+        try {
+            action.run();
+        } finally {
+            isRecording = wasRecording;
+        }
+    }
+
+    private void discardPendingChanges() {
+        List<Change> pending = pendingChanges;
+        pendingChanges = new ArrayList<>();
+        undoChanges(pending);
+    }
+
+    /**
+     * Reverses {@code changes}, latest first, as one batch.
+     */
+    private void undoChanges(List<Change> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        withoutRecording(() -> applyUnchecked(() -> {
+            for (int i = changes.size() - 1; i >= 0; i--) {
+                changes.get(i).undo(this);
+            }
+        }));
+    }
+
+    /**
+     * The changes saved by one commit, with the number of person records they hold.
+     */
+    private static class Delta {
+        private final List<Change> changes;
+        private final long records;
+
+        Delta(List<Change> changes) {
+            this.changes = changes;
+            this.records = changes.stream().mapToLong(Change::records).sum();
+        }
+    }
+
+    /**
+     * A recorded change to the persons, which knows how to reverse and reapply itself.
+     */
+    private interface Change {
+        void undo(VersionedAddressBook addressBook);
+
+        void redo(VersionedAddressBook addressBook);
+
+        long records();
+    }
+
+    private static class Add implements Change {
+        private final long orderKey;
+        private final Person person;
+
+        Add(long orderKey, Person person) {
+            this.orderKey = orderKey;
+            this.person = person;
+        }
+
+        @Override
+        public void undo(VersionedAddressBook addressBook) {
+            addressBook.removePerson(person);
+        }
+
+        @Override
+        public void redo(VersionedAddressBook addressBook) {
+            addressBook.restorePerson(orderKey, person);
+        }
+
+        @Override
+        public long records() {
+            return 1;
+        }
+    }
+
+    private static class Replace implements Change {
+        private final Person target;
+        private final Person editedPerson;
+
+        Replace(Person target, Person editedPerson) {
+            this.target = target;
+            this.editedPerson = editedPerson;
+        }
+
+        @Override
+        public void undo(VersionedAddressBook addressBook) {
+            addressBook.setPerson(editedPerson, target);
+        }
+
+        @Override
+        public void redo(VersionedAddressBook addressBook) {
+            addressBook.setPerson(target, editedPerson);
+        }
+
+        @Override
+        public long records() {
+            return 2;
+        }
+    }
+
+    private static class Remove implements Change {
+        private final long orderKey;
+        private final Person person;
+
+        Remove(long orderKey, Person person) {
+            this.orderKey = orderKey;
+            this.person = person;
+        }
+
+        @Override
+        public void undo(VersionedAddressBook addressBook) {
+            addressBook.restorePerson(orderKey, person);
+        }
+
+        @Override
+        public void redo(VersionedAddressBook addressBook) {
+            addressBook.removePerson(person);
+        }
+
+        @Override
+        public long records() {
+            return 1;
+        }
+    }
+
+    /**
+     * A replacement of every person, stored as O(1) snapshots of the persons before and after.
+     * It counts as a single record however many persons it replaces, so clearing a large book does not evict the
+     * rest of the history.
+     */
+    private static class Reset implements Change {
+        private final AddressBookSnapshot before;
+        private final AddressBookSnapshot after;
+
+        Reset(AddressBookSnapshot before, AddressBookSnapshot after) {
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        public void undo(VersionedAddressBook addressBook) {
+            addressBook.resetData(before);
+        }
+
+        @Override
+        public void redo(VersionedAddressBook addressBook) {
+            addressBook.resetData(after);
+        }
+
+        @Override
+        public long records() {
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package seedu.address.model.analytics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Maintainer;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Role;
+import seedu.address.model.person.Staff;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Running totals over the persons of an address book, kept up to date as persons are added and removed.
+ * Each add or remove takes time proportional to the tags of the person, independent of the number of persons,
+ * so reading the totals never needs a scan.
+ * Money totals are kept exactly, as the amounts of enough persons can add up to more than a long holds.
+ */
+public class Aggregates {
+
+    private final int[] roleCounts = new int[Role.values().length];
+    private final Map<Tag, Integer> tagCounts = new HashMap<>();
+    private BigInteger totalStaffSalaryCents = BigInteger.ZERO;
+    private BigInteger totalMaintainerCommissionCents = BigInteger.ZERO;
+
+    public Aggregates() {}
+
+    /**
+     * Creates a copy of {@code toBeCopied}.
+     */
+    public Aggregates(Aggregates toBeCopied) {
+        requireNonNull(toBeCopied);
+        System.arraycopy(toBeCopied.roleCounts, 0, roleCounts, 0, roleCounts.length);
+        tagCounts.putAll(toBeCopied.tagCounts);
+        totalStaffSalaryCents = toBeCopied.totalStaffSalaryCents;
+        totalMaintainerCommissionCents = toBeCopied.totalMaintainerCommissionCents;
+    }
+
+    /**
+     * Counts {@code person} in the totals.
+     */
+    public void add(Person person) {
+        update(person, 1);
+    }
+
+    /**
+     * Stops counting {@code person}, which must have been added, in the totals.
+     */
+    public void remove(Person person) {
+        update(person, -1);
+    }
+
+    /**
+     * Replaces the totals with those of {@code persons}.
+     */
+    public void reset(List<Person> persons) {
+        Arrays.fill(roleCounts, 0);
+        tagCounts.clear();
+        totalStaffSalaryCents = BigInteger.ZERO;
+        totalMaintainerCommissionCents = BigInteger.ZERO;
+        persons.forEach(this::add);
+    }
+
+    private void update(Person person, int sign) {
+        requireNonNull(person);
+        Role role = Role.of(person);
+        roleCounts[role.ordinal()] += sign;
+        for (Tag tag : person.getTags()) {
+            tagCounts.merge(tag, sign, (count, change) -> count + change == 0 ? null : count + change);
+        }
+        if (role == Role.STAFF) {
+            totalStaffSalaryCents = totalStaffSalaryCents.add(
+                    BigInteger.valueOf(sign * ((Staff) person).getSalary().getCents()));
+        } else if (role == Role.MAINTAINER) {
+            totalMaintainerCommissionCents = totalMaintainerCommissionCents.add(
+                    BigInteger.valueOf(sign * ((Maintainer) person).getCommission().getCents()));
+        }
+    }
+
+    /**
+     * Returns the number of persons counted.
+     */
+    public int getPersonCount() {
+        return Arrays.stream(roleCounts).sum();
+    }
+
+    /**
+     * Returns the number of persons counted with {@code role}.
+     */
+    public int getCount(Role role) {
+        requireNonNull(role);
+        return roleCounts[role.ordinal()];
+    }
+
+    /**
+     * Returns the number of persons counted with each tag, for the tags that at least one of them has.
+     */
+    public Map<Tag, Integer> getTagCounts() {
+        return Collections.unmodifiableMap(tagCounts);
+    }
+
+    /**
+     * Returns the total hourly salary of the staff counted, in cents.
+     */
+    public BigInteger getTotalStaffSalaryCents() {
+        return totalStaffSalaryCents;
+    }
+
+    /**
+     * Returns the average hourly commission of the maintainers counted in cents, rounded to the nearest cent, or an
+     * empty {@code OptionalLong} if there are none.
+     */
+    public OptionalLong getAverageMaintainerCommissionCents() {
+        int maintainerCount = getCount(Role.MAINTAINER);
+        if (maintainerCount == 0) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(new BigDecimal(totalMaintainerCommissionCents)
+                .divide(BigDecimal.valueOf(maintainerCount), 0, RoundingMode.HALF_UP)
+                .longValueExact());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Aggregates)) {
+            return false;
+        }
+
+        Aggregates otherAggregates = (Aggregates) other;
+        return Arrays.equals(roleCounts, otherAggregates.roleCounts)
+                && tagCounts.equals(otherAggregates.tagCounts)
+                && totalStaffSalaryCents.equals(otherAggregates.totalStaffSalaryCents)
+                && totalMaintainerCommissionCents.equals(otherAggregates.totalMaintainerCommissionCents);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(Arrays.hashCode(roleCounts), tagCounts, totalStaffSalaryCents,
+                totalMaintainerCommissionCents);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("roleCounts", Arrays.toString(roleCounts))
+                .add("tagCounts", tagCounts)
+                .add("totalStaffSalaryCents", totalStaffSalaryCents)
+                .add("totalMaintainerCommissionCents", totalMaintainerCommissionCents)
+                .toString();
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.model.analytics;
+
+import seedu.address.model.person.Maintainer;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Staff;
+import seedu.address.model.person.Supplier;
+
+/**
+ * The fields of a person with few distinct values, which a {@code ColumnarSnapshot} stores dictionary-encoded.
+ */
+public enum CategoryField {
+    EMPLOYMENT {
+        @Override
+        public String valueOf(Person person) {
+            return person instanceof Staff ? ((Staff) person).getEmployment().employment : null;
+        }
+    },
+    PRODUCT {
+        @Override
+        public String valueOf(Person person) {
+            return person instanceof Supplier ? ((Supplier) person).getProduct().product : null;
+        }
+    },
+    PRICE_UNIT {
+        @Override
+        public String valueOf(Person person) {
+            return person instanceof Supplier ? ((Supplier) person).getPrice().getUnit() : null;
+        }
+    },
+    SKILL {
+        @Override
+        public String valueOf(Person person) {
+            return person instanceof Maintainer ? ((Maintainer) person).getSkill().skill : null;
+        }
+    };
+
+    /**
+     * Returns the value of this field for {@code person}, or null if the person has no such field.
+     */
+    public abstract String valueOf(Person person);
+}
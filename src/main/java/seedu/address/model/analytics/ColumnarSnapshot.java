@@ -0,0 +1,238 @@
+package seedu.address.model.analytics;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.index.AmountField;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Role;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An immutable column-oriented copy of the persons of an address book, for reporting.
+ * Each field is stored as one array over all persons: roles and categories as small integer codes into a
+ * dictionary of distinct values, amounts as cents in primitive arrays, and tags as one bitset of persons per tag.
+ * Scans read contiguous primitive arrays instead of following references to scattered {@code Person} objects, and
+ * run in parallel across cores.
+ */
+public final class ColumnarSnapshot {
+
+    /** The amount stored for persons that do not have the field. Amounts are never negative. */
+    private static final long ABSENT = -1;
+
+    /** The code stored for persons that do not have the field. */
+    private static final int NO_CODE = -1;
+
+    private static final Role[] ROLES = Role.values();
+
+    private final int size;
+    private final byte[] roles;
+    private final Map<CategoryField, DictionaryColumn> categories = new EnumMap<>(CategoryField.class);
+    private final Map<AmountField, long[]> amounts = new EnumMap<>(AmountField.class);
+    private final Map<Tag, BitSet> tagRows = new HashMap<>();
+
+    private ColumnarSnapshot(List<Person> persons) {
+        size = persons.size();
+        roles = new byte[size];
+        for (CategoryField field : CategoryField.values()) {
+            categories.put(field, new DictionaryColumn(size));
+        }
+        for (AmountField field : AmountField.values()) {
+            amounts.put(field, new long[size]);
+        }
+
+        int row = 0;
+        for (Person person : persons) {
+            roles[row] = (byte) Role.of(person).ordinal();
+            for (CategoryField field : CategoryField.values()) {
+                categories.get(field).set(row, field.valueOf(person));
+            }
+            for (AmountField field : AmountField.values()) {
+                Long cents = field.centsOf(person);
+                amounts.get(field)[row] = cents == null ? ABSENT : cents;
+            }
+            for (Tag tag : person.getTags()) {
+                tagRows.computeIfAbsent(tag, unused -> new BitSet(size)).set(row);
+            }
+            row++;
+        }
+    }
+
+    /**
+     * Returns a columnar copy of the persons of {@code addressBook}, built in one pass over them.
+     */
+    public static ColumnarSnapshot of(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        return new ColumnarSnapshot(addressBook.getPersonList());
+    }
+
+    /**
+     * Returns the number of persons in the snapshot.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of persons with each role. Every role is present, in declaration order.
+     */
+    public Map<Role, Integer> countByRole() {
+        int[] counts = IntStream.range(0, size).parallel().collect(() -> new int[ROLES.length], (
+                partialCounts, row) -> partialCounts[roles[row]]++, ColumnarSnapshot::addInto);
+
+        Map<Role, Integer> countByRole = new EnumMap<>(Role.class);
+        for (Role role : ROLES) {
+            countByRole.put(role, counts[role.ordinal()]);
+        }
+        return countByRole;
+    }
+
+    /**
+     * Returns the number of persons with each tag, for the tags that at least one person has.
+     */
+    public Map<Tag, Integer> countByTag() {
+        Map<Tag, Integer> countByTag = new HashMap<>();
+        tagRows.forEach((tag, rows) -> countByTag.put(tag, rows.cardinality()));
+        return countByTag;
+    }
+
+    /**
+     * Returns the number of persons that have every tag in {@code tags}.
+     */
+    public int countWithAllTags(Collection<Tag> tags) {
+        requireNonNull(tags);
+        BitSet rows = new BitSet(size);
+        rows.set(0, size);
+        for (Tag tag : tags) {
+            rows.and(tagRows.getOrDefault(tag, new BitSet()));
+        }
+        return rows.cardinality();
+    }
+
+    /**
+     * Returns the count, sum, minimum, average and maximum of {@code field} in cents, over the persons that have it.
+     */
+    public LongSummaryStatistics summarize(AmountField field) {
+        requireNonNull(field);
+        long[] column = amounts.get(field);
+        return IntStream.range(0, size).parallel()
+                .mapToLong(row -> column[row])
+                .filter(cents -> cents != ABSENT)
+                .summaryStatistics();
+    }
+
+    /**
+     * Returns the statistics of {@code field} in cents for each value of {@code group}, over the persons that have
+     * both fields. Values are in the order they first appear in the snapshot.
+     */
+    public Map<String, LongSummaryStatistics> summarizeBy(CategoryField group, AmountField field) {
+        requireAllNonNull(group, field);
+        DictionaryColumn groups = categories.get(group);
+        long[] column = amounts.get(field);
+        int groupCount = groups.dictionary.size();
+
+        LongSummaryStatistics[] statistics = IntStream.range(0, size).parallel()
+                .filter(row -> groups.codes[row] != NO_CODE && column[row] != ABSENT)
+                .collect(() -> newStatistics(groupCount), (
+                        partialStatistics, row) -> partialStatistics[groups.codes[row]].accept(column[row]),
+                        ColumnarSnapshot::combineInto);
+
+        Map<String, LongSummaryStatistics> statisticsByGroup = new LinkedHashMap<>();
+        for (int code = 0; code < groupCount; code++) {
+            if (statistics[code].getCount() > 0) {
+                statisticsByGroup.put(groups.dictionary.get(code), statistics[code]);
+            }
+        }
+        return statisticsByGroup;
+    }
+
+    /**
+     * Returns the number of persons whose {@code field} falls in each bucket of {@code bucketWidth} cents, keyed by
+     * the lowest amount of the bucket. Empty buckets are left out.
+     */
+    public SortedMap<Long, Integer> distribution(AmountField field, long bucketWidth) {
+        requireNonNull(field);
+        if (bucketWidth <= 0) {
+            throw new IllegalArgumentException("Bucket width must be positive");
+        }
+        long[] column = amounts.get(field);
+        Map<Long, Long> counts = IntStream.range(0, size).parallel()
+                .mapToLong(row -> column[row])
+                .filter(cents -> cents != ABSENT)
+                .boxed()
+                .collect(Collectors.groupingByConcurrent(
+                        cents -> cents / bucketWidth * bucketWidth, Collectors.counting()));
+
+        SortedMap<Long, Integer> distribution = new TreeMap<>();
+        counts.forEach((bucket, count) -> distribution.put(bucket, count.intValue()));
+        return Collections.unmodifiableSortedMap(distribution);
+    }
+
+    /**
+     * Returns the distinct values of {@code field}, in the order they first appear in the snapshot.
+     */
+    public List<String> getDistinctValues(CategoryField field) {
+        requireNonNull(field);
+        return Collections.unmodifiableList(categories.get(field).dictionary);
+    }
+
+    private static void addInto(int[] target, int[] source) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] += source[i];
+        }
+    }
+
+    private static LongSummaryStatistics[] newStatistics(int count) {
+        LongSummaryStatistics[] statistics = new LongSummaryStatistics[count];
+        for (int i = 0; i < count; i++) {
+            statistics[i] = new LongSummaryStatistics();
+        }
+        return statistics;
+    }
+
+    private static void combineInto(LongSummaryStatistics[] target, LongSummaryStatistics[] source) {
+        for (int i = 0; i < target.length; i++) {
+            target[i].combine(source[i]);
+        }
+    }
+
+    /**
+     * A column of strings stored as codes into a dictionary of the distinct values.
+     */
+    private static class DictionaryColumn {
+        private final List<String> dictionary = new ArrayList<>();
+        private final Map<String, Integer> codeOf = new HashMap<>();
+        private final int[] codes;
+
+        DictionaryColumn(int size) {
+            codes = new int[size];
+        }
+
+        void set(int row, String value) {
+            if (value == null) {
+                codes[row] = NO_CODE;
+                return;
+            }
+            codes[row] = codeOf.computeIfAbsent(value, unused -> {
+                dictionary.add(value);
+                return dictionary.size() - 1;
+            });
+        }
+    }
+}
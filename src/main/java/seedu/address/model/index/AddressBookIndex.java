@@ -0,0 +1,130 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Secondary indexes over the persons of an address book.
+ * The owner must report every addition, replacement and removal of a person so that the indexes stay in sync.
+ */
+public class AddressBookIndex {
+
+    private final PersonSlots slots = new PersonSlots();
+    private final TagIndex tagIndex = new TagIndex();
+    private final TokenIndex tokenIndex = new TokenIndex();
+    private final PrefixTrie namePrefixes = new PrefixTrie();
+    private final TrigramIndex nameTrigrams = new TrigramIndex();
+    private final RangeIndex rangeIndex = new RangeIndex();
+
+    /**
+     * Indexes {@code person}, who has just been added.
+     */
+    public void add(Person person) {
+        indexFields(slots.assign(person), person);
+    }
+
+    /**
+     * Re-indexes {@code target} as {@code editedPerson}, who has just replaced it.
+     */
+    public void replace(Person target, Person editedPerson) {
+        int slot = slots.slotOf(target);
+        unindexFields(slot, target);
+        slots.replace(target, editedPerson);
+        indexFields(slot, editedPerson);
+    }
+
+    /**
+     * Stops indexing {@code person}, who has just been removed.
+     */
+    public void remove(Person person) {
+        unindexFields(slots.release(person), person);
+    }
+
+    /**
+     * Replaces every indexed person with {@code persons}.
+     */
+    public void reset(List<Person> persons) {
+        slots.clear();
+        tagIndex.clear();
+        tokenIndex.clear();
+        namePrefixes.clear();
+        nameTrigrams.clear();
+        rangeIndex.clear();
+        for (Person person : persons) {
+            indexFields(slots.assign(person), person);
+        }
+    }
+
+    private void indexFields(int slot, Person person) {
+        tagIndex.add(slot, person);
+        tokenIndex.add(slot, person);
+        namePrefixes.add(slot, person);
+        nameTrigrams.add(person);
+        rangeIndex.add(slot, person);
+    }
+
+    private void unindexFields(int slot, Person person) {
+        tagIndex.remove(slot, person);
+        tokenIndex.remove(slot, person);
+        namePrefixes.remove(slot, person);
+        nameTrigrams.remove(person);
+        rangeIndex.remove(slot, person);
+    }
+
+    public PersonSlots getSlots() {
+        return slots;
+    }
+
+    public TagIndex getTagIndex() {
+        return tagIndex;
+    }
+
+    public TokenIndex getTokenIndex() {
+        return tokenIndex;
+    }
+
+    public PrefixTrie getNamePrefixes() {
+        return namePrefixes;
+    }
+
+    public TrigramIndex getNameTrigrams() {
+        return nameTrigrams;
+    }
+
+    public RangeIndex getRangeIndex() {
+        return rangeIndex;
+    }
+
+    /**
+     * Returns the indexed persons that satisfy {@code predicate}, looked up from the indexes.
+     */
+    public List<Person> getMatches(IndexedPredicate predicate) {
+        requireNonNull(predicate);
+        return slots.getAll(predicate.resolve(this));
+    }
+
+    /**
+     * Returns up to {@code limit} indexed persons with a name word starting with {@code prefix}, ignoring case.
+     * Persons whose matching word comes first alphabetically are returned first.
+     */
+    public List<Person> getByNamePrefix(String prefix, int limit) {
+        requireNonNull(prefix);
+        return namePrefixes.queryTop(prefix, limit).stream()
+                .map(slots::get)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns up to {@code limit} indexed persons with the highest {@code field}, or the lowest if
+     * {@code highestFirst} is false, in that order.
+     */
+    public List<Person> getTopByAmount(AmountField field, int limit, boolean highestFirst) {
+        return rangeIndex.queryTop(field, limit, highestFirst).stream()
+                .map(slots::get)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.model.index;
+
+import seedu.address.model.person.Maintainer;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Staff;
+import seedu.address.model.person.Supplier;
+
+/**
+ * The monetary fields of a person that are covered by the {@code RangeIndex}.
+ */
+public enum AmountField {
+    SALARY {
+        @Override
+        public Long amountOf(Person person) {
+            return person instanceof Staff ? ((Staff) person).getSalary().getAmount() : null;
+        }
+
+        @Override
+        public Long centsOf(Person person) {
+            return person instanceof Staff ? ((Staff) person).getSalary().getCents() : null;
+        }
+    },
+    PRICE {
+        @Override
+        public Long amountOf(Person person) {
+            return person instanceof Supplier ? ((Supplier) person).getPrice().getAmount() : null;
+        }
+
+        @Override
+        public Long centsOf(Person person) {
+            return person instanceof Supplier ? ((Supplier) person).getPrice().getCents() : null;
+        }
+    },
+    COMMISSION {
+        @Override
+        public Long amountOf(Person person) {
+            return person instanceof Maintainer ? ((Maintainer) person).getCommission().getAmount() : null;
+        }
+
+        @Override
+        public Long centsOf(Person person) {
+            return person instanceof Maintainer ? ((Maintainer) person).getCommission().getCents() : null;
+        }
+    };
+
+    /**
+     * Returns the amount of this field for {@code person}, or null if the person has no such field.
+     */
+    public abstract Long amountOf(Person person);
+
+    /**
+     * Returns the amount of this field for {@code person} in cents, or null if the person has no such field.
+     */
+    public abstract Long centsOf(Person person);
+}
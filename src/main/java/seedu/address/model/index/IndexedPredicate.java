@@ -0,0 +1,34 @@
+package seedu.address.model.index;
+
+import java.util.BitSet;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code Predicate<Person>} that can also be answered from the secondary indexes of an address book
+ * without testing every person.
+ */
+public interface IndexedPredicate extends Predicate<Person> {
+
+    /**
+     * Returns the slots of the persons in {@code index} that satisfy this predicate.
+     * The returned bitset may be modified by the caller.
+     */
+    BitSet resolve(AddressBookIndex index);
+
+    /**
+     * Returns an upper bound on the number of persons in {@code index} that satisfy this predicate, computed from
+     * the sizes of the index entries involved without resolving the predicate.
+     * The default is the number of persons in {@code index}, for predicates whose matches cannot be counted cheaply.
+     */
+    default int estimate(AddressBookIndex index) {
+        return index.getSlots().size();
+    }
+
+    /**
+     * Returns a short description of this predicate in the terms of the find command, such as {@code tag friends},
+     * for showing to users.
+     */
+    String describe();
+}
@@ -0,0 +1,114 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Assigns every person in an address book a small integer slot that stays stable while the person is in the book.
+ * Slots freed by removed persons are reused, so the slots in use stay dense and bitsets over them stay compact.
+ */
+public class PersonSlots {
+
+    private final List<Person> persons = new ArrayList<>();
+    private final Map<Name, Integer> slotsByName = new HashMap<>();
+    private final BitSet occupied = new BitSet();
+
+    /**
+     * Assigns a free slot to {@code person} and returns it.
+     * No other person with the same name may hold a slot.
+     */
+    public int assign(Person person) {
+        requireNonNull(person);
+        assert !slotsByName.containsKey(person.getName());
+
+        int slot = occupied.nextClearBit(0);
+        if (slot == persons.size()) {
+            persons.add(person);
+        } else {
+            persons.set(slot, person);
+        }
+        occupied.set(slot);
+        slotsByName.put(person.getName(), slot);
+        return slot;
+    }
+
+    /**
+     * Frees the slot held by {@code person} and returns it.
+     */
+    public int release(Person person) {
+        requireNonNull(person);
+        int slot = slotOf(person);
+        persons.set(slot, null);
+        occupied.clear(slot);
+        slotsByName.remove(person.getName());
+        return slot;
+    }
+
+    /**
+     * Moves the slot held by {@code target} to {@code editedPerson} and returns it.
+     */
+    public int replace(Person target, Person editedPerson) {
+        requireNonNull(editedPerson);
+        int slot = slotOf(target);
+        persons.set(slot, editedPerson);
+        slotsByName.remove(target.getName());
+        slotsByName.put(editedPerson.getName(), slot);
+        return slot;
+    }
+
+    /**
+     * Returns the slot held by {@code person}.
+     */
+    public int slotOf(Person person) {
+        requireNonNull(person);
+        Integer slot = slotsByName.get(person.getName());
+        assert slot != null : "Person does not hold a slot";
+        return slot;
+    }
+
+    /**
+     * Returns the person holding {@code slot}, or null if the slot is free.
+     */
+    public Person get(int slot) {
+        return slot < persons.size() ? persons.get(slot) : null;
+    }
+
+    /**
+     * Returns the persons holding the slots set in {@code slots}.
+     */
+    public List<Person> getAll(BitSet slots) {
+        List<Person> result = new ArrayList<>(slots.cardinality());
+        for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+            result.add(persons.get(slot));
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new bitset with every slot that is currently held.
+     */
+    public BitSet occupied() {
+        return (BitSet) occupied.clone();
+    }
+
+    public int size() {
+        return slotsByName.size();
+    }
+
+    /**
+     * Frees every slot.
+     */
+    public void clear() {
+        persons.clear();
+        slotsByName.clear();
+        occupied.clear();
+    }
+}
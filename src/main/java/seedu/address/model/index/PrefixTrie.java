@@ -0,0 +1,205 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A prefix trie over the lowercase words of every person's name, mapping each word to the slots of the persons
+ * whose name contains it.
+ * Children are kept in sorted arrays, so nodes stay small and completions are visited in alphabetical order.
+ * A lookup costs time proportional to the length of the prefix plus the number of completions visited.
+ */
+public class PrefixTrie {
+
+    private final Node root = new Node();
+
+    /**
+     * Records the name words of {@code person}, who holds {@code slot}.
+     */
+    public void add(int slot, Person person) {
+        for (String word : TokenIndex.tokenize(person.getName().fullName)) {
+            Node node = root;
+            for (int i = 0; i < word.length(); i++) {
+                node = node.getOrAddChild(word.charAt(i));
+            }
+            if (node.slots == null) {
+                node.slots = new BitSet();
+            }
+            node.slots.set(slot);
+        }
+    }
+
+    /**
+     * Forgets the name words of {@code person}, who holds {@code slot}.
+     */
+    public void remove(int slot, Person person) {
+        for (String word : TokenIndex.tokenize(person.getName().fullName)) {
+            remove(root, word, 0, slot);
+        }
+    }
+
+    /**
+     * Returns the slots of the persons with a name word starting with {@code prefix}, ignoring case.
+     */
+    public BitSet query(String prefix) {
+        BitSet result = new BitSet();
+        Node node = find(prefix);
+        if (node != null) {
+            node.collectAll(result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the slots of up to {@code limit} persons with a name word starting with {@code prefix}, ignoring case.
+     * Persons are ordered by their alphabetically first matching word, so shorter completions come first.
+     */
+    public List<Integer> queryTop(String prefix, int limit) {
+        List<Integer> result = new ArrayList<>();
+        Node node = find(prefix);
+        if (node != null && limit > 0) {
+            node.collectTop(new BitSet(), result, limit);
+        }
+        return result;
+    }
+
+    /**
+     * Forgets every word.
+     */
+    public void clear() {
+        root.clear();
+    }
+
+    private Node find(String prefix) {
+        requireNonNull(prefix);
+        String word = prefix.trim().toLowerCase();
+        Node node = root;
+        for (int i = 0; i < word.length() && node != null; i++) {
+            node = node.getChild(word.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * Clears {@code slot} from the node of {@code word} below {@code node}, pruning nodes that become empty.
+     * Returns true if {@code node} itself has become empty.
+     */
+    private static boolean remove(Node node, String word, int depth, int slot) {
+        if (depth == word.length()) {
+            node.slots.clear(slot);
+            if (node.slots.isEmpty()) {
+                node.slots = null;
+            }
+        } else {
+            char key = word.charAt(depth);
+            Node child = node.getChild(key);
+            if (remove(child, word, depth + 1, slot)) {
+                node.removeChild(key);
+            }
+        }
+        return node.isEmpty();
+    }
+
+    /**
+     * A trie node. Its children are kept sorted by key in two parallel arrays.
+     */
+    private static class Node {
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private int size;
+
+        /** Slots of the persons with a name word ending at this node, or null if there are none. */
+        private BitSet slots;
+
+        Node getChild(char key) {
+            int position = Arrays.binarySearch(keys, 0, size, key);
+            return position >= 0 ? children[position] : null;
+        }
+
+        Node getOrAddChild(char key) {
+            int position = Arrays.binarySearch(keys, 0, size, key);
+            if (position >= 0) {
+                return children[position];
+            }
+
+            int insertion = -position - 1;
+            if (size == keys.length) {
+                int capacity = Math.max(2, size * 2);
+                keys = Arrays.copyOf(keys, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(keys, insertion, keys, insertion + 1, size - insertion);
+            System.arraycopy(children, insertion, children, insertion + 1, size - insertion);
+            Node child = new Node();
+            keys[insertion] = key;
+            children[insertion] = child;
+            size++;
+            return child;
+        }
+
+        void removeChild(char key) {
+            int position = Arrays.binarySearch(keys, 0, size, key);
+            System.arraycopy(keys, position + 1, keys, position, size - position - 1);
+            System.arraycopy(children, position + 1, children, position, size - position - 1);
+            size--;
+            children[size] = null;
+        }
+
+        boolean isEmpty() {
+            return size == 0 && slots == null;
+        }
+
+        /**
+         * Adds the slots of every word at and below this node to {@code result}.
+         */
+        void collectAll(BitSet result) {
+            if (slots != null) {
+                result.or(slots);
+            }
+            for (int i = 0; i < size; i++) {
+                children[i].collectAll(result);
+            }
+        }
+
+        /**
+         * Visits the words at and below this node in alphabetical order, appending each slot not yet in {@code seen}
+         * to {@code ordered} until it holds {@code limit} slots.
+         * Returns true once the limit has been reached.
+         */
+        boolean collectTop(BitSet seen, List<Integer> ordered, int limit) {
+            if (slots != null) {
+                for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+                    if (!seen.get(slot)) {
+                        seen.set(slot);
+                        ordered.add(slot);
+                        if (ordered.size() == limit) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            for (int i = 0; i < size; i++) {
+                if (children[i].collectTop(seen, ordered, limit)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void clear() {
+            keys = NO_KEYS;
+            children = NO_CHILDREN;
+            size = 0;
+            slots = null;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A sorted index from each amount of every {@code AmountField} to the slots of the persons with that amount.
+ * Range and top-k queries walk only the amounts they return, so they cost logarithmic time in the number of
+ * distinct amounts plus the size of the result.
+ */
+public class RangeIndex {
+
+    private final Map<AmountField, NavigableMap<Long, BitSet>> postings = new EnumMap<>(AmountField.class);
+
+    /**
+     * Creates an empty index covering every {@code AmountField}.
+     */
+    public RangeIndex() {
+        for (AmountField field : AmountField.values()) {
+            postings.put(field, new TreeMap<>());
+        }
+    }
+
+    /**
+     * Records the amounts of {@code person}, who holds {@code slot}.
+     */
+    public void add(int slot, Person person) {
+        for (AmountField field : AmountField.values()) {
+            Long amount = field.amountOf(person);
+            if (amount != null) {
+                postings.get(field).computeIfAbsent(amount, unused -> new BitSet()).set(slot);
+            }
+        }
+    }
+
+    /**
+     * Forgets the amounts of {@code person}, who holds {@code slot}.
+     */
+    public void remove(int slot, Person person) {
+        for (AmountField field : AmountField.values()) {
+            Long amount = field.amountOf(person);
+            if (amount == null) {
+                continue;
+            }
+            NavigableMap<Long, BitSet> fieldPostings = postings.get(field);
+            BitSet slots = fieldPostings.get(amount);
+            slots.clear(slot);
+            if (slots.isEmpty()) {
+                fieldPostings.remove(amount);
+            }
+        }
+    }
+
+    /**
+     * Returns the slots of the persons whose {@code field} is between {@code min} and {@code max} inclusive.
+     */
+    public BitSet query(AmountField field, long min, long max) {
+        requireNonNull(field);
+        BitSet result = new BitSet();
+        if (min <= max) {
+            postings.get(field).subMap(min, true, max, true).values().forEach(result::or);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of persons whose {@code field} is between {@code min} and {@code max} inclusive.
+     */
+    public int count(AmountField field, long min, long max) {
+        requireNonNull(field);
+        int count = 0;
+        if (min <= max) {
+            for (BitSet slots : postings.get(field).subMap(min, true, max, true).values()) {
+                count += slots.cardinality();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the slots of up to {@code limit} persons with the highest {@code field}, or the lowest if
+     * {@code highestFirst} is false, in that order. Persons with equal amounts are ordered by slot.
+     */
+    public List<Integer> queryTop(AmountField field, int limit, boolean highestFirst) {
+        requireNonNull(field);
+        NavigableMap<Long, BitSet> fieldPostings = postings.get(field);
+        List<Integer> result = new ArrayList<>();
+        for (BitSet slots : (highestFirst ? fieldPostings.descendingMap() : fieldPostings).values()) {
+            for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+                if (result.size() >= limit) {
+                    return result;
+                }
+                result.add(slot);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Forgets every amount.
+     */
+    public void clear() {
+        postings.values().forEach(Map::clear);
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An inverted index from each {@code Tag} to the slots of the persons carrying it.
+ * Each posting list is a bitset over person slots, so tag queries become bitset intersections.
+ */
+public class TagIndex {
+
+    private final Map<Tag, BitSet> postings = new HashMap<>();
+
+    /**
+     * Records the tags of {@code person}, who holds {@code slot}.
+     */
+    public void add(int slot, Person person) {
+        for (Tag tag : person.getTags()) {
+            postings.computeIfAbsent(tag, unused -> new BitSet()).set(slot);
+        }
+    }
+
+    /**
+     * Forgets the tags of {@code person}, who holds {@code slot}.
+     */
+    public void remove(int slot, Person person) {
+        for (Tag tag : person.getTags()) {
+            BitSet slots = postings.get(tag);
+            slots.clear(slot);
+            if (slots.isEmpty()) {
+                postings.remove(tag);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of persons carrying {@code tag}.
+     */
+    public int count(Tag tag) {
+        requireNonNull(tag);
+        BitSet slots = postings.get(tag);
+        return slots == null ? 0 : slots.cardinality();
+    }
+
+    /**
+     * Returns the slots, out of {@code universe}, of the persons that carry every tag in {@code requiredTags}
+     * and none of the tags in {@code excludedTags}.
+     * Required tags are intersected starting from the rarest one so that the working set shrinks as early as possible.
+     */
+    public BitSet query(Set<Tag> requiredTags, Set<Tag> excludedTags, BitSet universe) {
+        requireNonNull(universe);
+        List<BitSet> requiredPostings = new ArrayList<>(requiredTags.size());
+        for (Tag tag : requiredTags) {
+            BitSet slots = postings.get(tag);
+            if (slots == null) {
+                return new BitSet();
+            }
+            requiredPostings.add(slots);
+        }
+        requiredPostings.sort(Comparator.comparingInt(BitSet::cardinality));
+
+        BitSet result = (BitSet) (requiredPostings.isEmpty() ? universe : requiredPostings.get(0)).clone();
+        for (BitSet slots : requiredPostings) {
+            result.and(slots);
+        }
+        result.and(universe);
+        for (Tag tag : excludedTags) {
+            BitSet slots = postings.get(tag);
+            if (slots != null) {
+                result.andNot(slots);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Forgets every tag.
+     */
+    public void clear() {
+        postings.clear();
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.model.index;
+
+import seedu.address.model.person.Maintainer;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Supplier;
+
+/**
+ * The free-text fields of a person that are covered by the {@code TokenIndex}.
+ */
+public enum TextField {
+    NAME {
+        @Override
+        public String textOf(Person person) {
+            return person.getName().fullName;
+        }
+    },
+    ADDRESS {
+        @Override
+        public String textOf(Person person) {
+            return person.getAddress().value;
+        }
+    },
+    EMAIL {
+        @Override
+        public String textOf(Person person) {
+            return person.getEmail().value;
+        }
+    },
+    PRODUCT {
+        @Override
+        public String textOf(Person person) {
+            return person instanceof Supplier ? ((Supplier) person).getProduct().product : null;
+        }
+    },
+    SKILL {
+        @Override
+        public String textOf(Person person) {
+            return person instanceof Maintainer ? ((Maintainer) person).getSkill().skill : null;
+        }
+    };
+
+    /**
+     * Returns the text of this field for {@code person}, or null if the person has no such field.
+     */
+    public abstract String textOf(Person person);
+}
@@ -0,0 +1,112 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * An inverted index from each word of a person's free-text fields to the slots of the persons using it.
+ * Words are matched case-insensitively and whole, as {@code StringUtil#containsWordIgnoreCase} does.
+ */
+public class TokenIndex {
+
+    private final Map<TextField, Map<String, BitSet>> postings = new EnumMap<>(TextField.class);
+
+    /**
+     * Creates an empty index covering every {@code TextField}.
+     */
+    public TokenIndex() {
+        for (TextField field : TextField.values()) {
+            postings.put(field, new HashMap<>());
+        }
+    }
+
+    /**
+     * Records the words of {@code person}, who holds {@code slot}.
+     */
+    public void add(int slot, Person person) {
+        for (TextField field : TextField.values()) {
+            String text = field.textOf(person);
+            if (text == null) {
+                continue;
+            }
+            Map<String, BitSet> fieldPostings = postings.get(field);
+            for (String token : tokenize(text)) {
+                fieldPostings.computeIfAbsent(token, unused -> new BitSet()).set(slot);
+            }
+        }
+    }
+
+    /**
+     * Forgets the words of {@code person}, who holds {@code slot}.
+     */
+    public void remove(int slot, Person person) {
+        for (TextField field : TextField.values()) {
+            String text = field.textOf(person);
+            if (text == null) {
+                continue;
+            }
+            Map<String, BitSet> fieldPostings = postings.get(field);
+            for (String token : tokenize(text)) {
+                BitSet slots = fieldPostings.get(token);
+                slots.clear(slot);
+                if (slots.isEmpty()) {
+                    fieldPostings.remove(token);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the slots of the persons whose {@code field} contains any of {@code keywords} as a whole word.
+     */
+    public BitSet queryAny(TextField field, Collection<String> keywords) {
+        requireNonNull(field);
+        Map<String, BitSet> fieldPostings = postings.get(field);
+        BitSet result = new BitSet();
+        for (String keyword : keywords) {
+            BitSet slots = fieldPostings.get(normalize(keyword));
+            if (slots != null) {
+                result.or(slots);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of persons whose {@code field} contains {@code keyword} as a whole word.
+     */
+    public int count(TextField field, String keyword) {
+        requireNonNull(field);
+        BitSet slots = postings.get(field).get(normalize(keyword));
+        return slots == null ? 0 : slots.cardinality();
+    }
+
+    /**
+     * Forgets every word.
+     */
+    public void clear() {
+        postings.values().forEach(Map::clear);
+    }
+
+    /**
+     * Splits {@code text} into the distinct normalized words it is indexed under, in order of first appearance.
+     * A word repeated in {@code text} is returned once, so it is recorded and forgotten once per person.
+     */
+    static Set<String> tokenize(String text) {
+        return new LinkedHashSet<>(List.of(text.trim().toLowerCase().split("\\s+")));
+    }
+
+    private static String normalize(String keyword) {
+        return keyword.trim().toLowerCase();
+    }
+}
@@ -0,0 +1,134 @@
+package seedu.address.model.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * An index from every trigram of the distinct lowercase name words in an address book to the words containing it.
+ * Words similar to a misspelled keyword are found by counting the trigrams they share with it, and only those
+ * candidates are compared with the keyword by edit distance.
+ */
+public class TrigramIndex {
+
+    private static final int GRAM_LENGTH = 3;
+    private static final String PADDING = "  ";
+
+    private final Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+    private final Map<String, Integer> wordCounts = new HashMap<>();
+
+    /**
+     * A name word similar to a keyword, with its edit distance from the keyword.
+     */
+    public static class Match {
+        private final String word;
+        private final int distance;
+
+        Match(String word, int distance) {
+            this.word = word;
+            this.distance = distance;
+        }
+
+        public String getWord() {
+            return word;
+        }
+
+        public int getDistance() {
+            return distance;
+        }
+    }
+
+    /**
+     * Records the name words of {@code person}.
+     */
+    public void add(Person person) {
+        for (String word : TokenIndex.tokenize(person.getName().fullName)) {
+            if (wordCounts.merge(word, 1, Integer::sum) == 1) {
+                for (String trigram : trigramsOf(word)) {
+                    wordsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(word);
+                }
+            }
+        }
+    }
+
+    /**
+     * Forgets the name words of {@code person}.
+     */
+    public void remove(Person person) {
+        for (String word : TokenIndex.tokenize(person.getName().fullName)) {
+            if (wordCounts.merge(word, -1, Integer::sum) == 0) {
+                wordCounts.remove(word);
+                for (String trigram : trigramsOf(word)) {
+                    Set<String> words = wordsByTrigram.get(trigram);
+                    words.remove(word);
+                    if (words.isEmpty()) {
+                        wordsByTrigram.remove(trigram);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the indexed words within {@code maxDistance} edits of {@code keyword}, ignoring case,
+     * closest first and alphabetically among equally close words.
+     */
+    public List<Match> findSimilar(String keyword, int maxDistance) {
+        requireNonNull(keyword);
+        String query = keyword.trim().toLowerCase();
+        List<String> queryTrigrams = trigramsOf(query);
+
+        // Each edit destroys at most GRAM_LENGTH of the query's trigrams, so closer words must share the rest.
+        int minimumShared = Math.max(1, queryTrigrams.size() - maxDistance * GRAM_LENGTH);
+        Map<String, Integer> sharedCounts = new HashMap<>();
+        for (String trigram : queryTrigrams) {
+            for (String word : wordsByTrigram.getOrDefault(trigram, Set.of())) {
+                if (Math.abs(word.length() - query.length()) <= maxDistance) {
+                    sharedCounts.merge(word, 1, Integer::sum);
+                }
+            }
+        }
+
+        List<Match> matches = new ArrayList<>();
+        sharedCounts.forEach((word, shared) -> {
+            if (shared >= minimumShared) {
+                int distance = StringUtil.boundedEditDistance(query, word, maxDistance);
+                if (distance <= maxDistance) {
+                    matches.add(new Match(word, distance));
+                }
+            }
+        });
+        matches.sort(Comparator.comparingInt(Match::getDistance).thenComparing(Match::getWord));
+        return matches;
+    }
+
+    /**
+     * Forgets every word.
+     */
+    public void clear() {
+        wordsByTrigram.clear();
+        wordCounts.clear();
+    }
+
+    /**
+     * Returns the trigrams of {@code word} padded at both ends, so that even one-letter words have trigrams and
+     * the first and last letters count as much as the rest.
+     */
+    private static List<String> trigramsOf(String word) {
+        String padded = PADDING + word + PADDING;
+        List<String> trigrams = new ArrayList<>(padded.length() - GRAM_LENGTH + 1);
+        for (int i = 0; i + GRAM_LENGTH <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.RefinablePredicate;
+import seedu.address.model.index.AddressBookIndex;
+import seedu.address.model.index.AmountField;
+import seedu.address.model.index.IndexedPredicate;
+
+/**
+ * Tests that a monetary field of a {@code Person} is between two whole-dollar amounts inclusive.
+ * Persons without the field, e.g. the salary of a non-staff, never match.
+ */
+public class AmountInRangePredicate implements IndexedPredicate, RefinablePredicate {
+    private final AmountField field;
+    private final long min;
+    private final long max;
+
+    /**
+     * Creates a predicate accepting persons whose {@code field} is at least {@code min} and at most {@code max}.
+     */
+    public AmountInRangePredicate(AmountField field, long min, long max) {
+        requireNonNull(field);
+        this.field = field;
+        this.min = min;
+        this.max = max;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        Long amount = field.amountOf(person);
+        return amount != null && amount >= min && amount <= max;
+    }
+
+    @Override
+    public BitSet resolve(AddressBookIndex index) {
+        return index.getRangeIndex().query(field, min, max);
+    }
+
+    @Override
+    public int estimate(AddressBookIndex index) {
+        return index.getRangeIndex().count(field, min, max);
+    }
+
+    @Override
+    public boolean refines(Predicate<Person> other) {
+        if (!(other instanceof AmountInRangePredicate)) {
+            return false;
+        }
+        AmountInRangePredicate otherPredicate = (AmountInRangePredicate) other;
+        return field.equals(otherPredicate.field) && min >= otherPredicate.min && max <= otherPredicate.max;
+    }
+
+    /**
+     * Returns the field and range as they are given to the find command, with an unbounded maximum shown as infinity.
+     */
+    @Override
+    public String describe() {
+        return field.name().toLowerCase() + " " + min + "-" + (max == Long.MAX_VALUE ? "\u221e" : max);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AmountInRangePredicate)) {
+            return false;
+        }
+
+        AmountInRangePredicate otherAmountInRangePredicate = (AmountInRangePredicate) other;
+        return field.equals(otherAmountInRangePredicate.field)
+                && min == otherAmountInRangePredicate.min
+                && max == otherAmountInRangePredicate.max;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, min, max);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("field", field)
+                .add("min", min)
+                .add("max", max)
+                .toString();
+    }
+}
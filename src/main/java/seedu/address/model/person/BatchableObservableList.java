@@ -0,0 +1,133 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+import seedu.address.commons.util.PersistentVector;
+
+/**
+ * An {@code ObservableList} backed by a {@code PersistentVector} whose changes can be grouped into a batch.
+ * Listeners are notified once per batch, with every change made during the batch combined.
+ * Reading, replacing, inserting and removing at any position take O(log n), and the current elements can be taken
+ * as an immutable vector in O(1).
+ *
+ * @param <E> the type of the elements
+ */
+class BatchableObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private PersistentVector<E> elements = PersistentVector.empty();
+
+    /**
+     * Starts a batch. Changes are reported to listeners only when the matching {@link #endBatch()} is reached.
+     * Batches may be nested.
+     */
+    void beginBatch() {
+        beginChange();
+    }
+
+    /**
+     * Ends a batch started by {@link #beginBatch()}, notifying listeners if it is the outermost one.
+     */
+    void endBatch() {
+        endChange();
+    }
+
+    /**
+     * Returns the current elements, which later changes to this list do not affect.
+     */
+    PersistentVector<E> getElements() {
+        return elements;
+    }
+
+    /**
+     * Replaces every element with those of {@code replacement} in one step, sharing its structure.
+     */
+    void setAll(PersistentVector<E> replacement) {
+        requireNonNull(replacement);
+        beginChange();
+        try {
+            List<E> removed = elements.asList();
+            elements = replacement;
+            modCount++;
+            nextReplace(0, elements.size(), removed);
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Returns the position of {@code key} among the elements, which must be in increasing order by
+     * {@code comparator}, as {@link PersistentVector#binarySearch(Object, Comparator)} does.
+     */
+    int binarySearch(E key, Comparator<? super E> comparator) {
+        return elements.binarySearch(key, comparator);
+    }
+
+    /**
+     * Replaces every element with {@code replacement} in one step rather than one removal per element.
+     */
+    @Override
+    public boolean setAll(Collection<? extends E> replacement) {
+        setAll(PersistentVector.of(new ArrayList<>(replacement)));
+        return true;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        beginChange();
+        try {
+            List<E> removed = elements.asList().subList(fromIndex, toIndex);
+            for (int i = fromIndex; i < toIndex; i++) {
+                elements = elements.minus(fromIndex);
+            }
+            modCount++;
+            nextRemove(fromIndex, removed);
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Returns an iterator over the elements as they are now, visiting each in O(1) amortized time.
+     * The iterator does not support removal.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return elements.iterator();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements = elements.plus(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        E old = elements.get(index);
+        elements = elements.with(index, element);
+        return old;
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        E old = elements.get(index);
+        elements = elements.minus(index);
+        return old;
+    }
+}
@@ -6,12 +6,17 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 /**
  * Represents a Maitainer's commission in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidCommission(String)}
+ * The amount is stored in cents and formatted back into text only when first needed.
  */
-public class Commission {
+public class Commission implements Comparable<Commission> {
     public static final String MESSAGE_CONSTRAINTS =
-            "Commision should in this format of ${amount}/hr";
+            "Commision should in this format of ${amount}/hr, where the amount is a whole number of dollars "
+            + "of at most " + DollarAmount.MAX_DOLLARS;
     public static final String VALIDATION_REGEX = "^\\$\\d+/hr$";
-    public final String commission;
+    public static final String UNIT = "hr";
+
+    private final long cents;
+    private String formatted;
 
     /**
      * Constructs an {@code Commission}.
@@ -21,19 +26,45 @@ public class Commission {
     public Commission(String commission) {
         requireNonNull(commission);
         checkArgument(isValidCommission(commission), MESSAGE_CONSTRAINTS);
-        this.commission = commission;
+        this.cents = DollarAmount.parseCents(commission);
     }
 
     /**
      * Returns true if a given string is a valid commission.
      */
     public static boolean isValidCommission(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return test.matches(VALIDATION_REGEX) && DollarAmount.isInRange(test);
+    }
+
+    /**
+     * Returns the commission in whole dollars per unit.
+     */
+    public long getAmount() {
+        return cents / 100;
+    }
+
+    /**
+     * Returns the commission in cents per unit.
+     */
+    public long getCents() {
+        return cents;
+    }
+
+    public String getUnit() {
+        return UNIT;
+    }
+
+    @Override
+    public int compareTo(Commission other) {
+        return Long.compare(cents, other.cents);
     }
 
     @Override
     public String toString() {
-        return commission;
+        if (formatted == null) {
+            formatted = DollarAmount.format(cents, UNIT);
+        }
+        return formatted;
     }
 
     @Override
@@ -48,11 +79,11 @@ public class Commission {
         }
 
         Commission otherCommission = (Commission) other;
-        return commission.equals(otherCommission.commission);
+        return cents == otherCommission.cents;
     }
 
     @Override
     public int hashCode() {
-        return commission.hashCode();
+        return Long.hashCode(cents);
     }
 }
@@ -0,0 +1,79 @@
+package seedu.address.model.person;
+
+import java.math.BigInteger;
+
+/**
+ * Helper functions for monetary fields written as {@code $amount/unit}, which are stored as a number of cents and
+ * formatted back into text only when needed.
+ */
+public class DollarAmount {
+
+    /** The largest number of whole dollars that can be stored, so that the amount in cents fits in a long. */
+    static final long MAX_DOLLARS = 999_999_999_999_999L;
+
+    private static final String AMOUNT_FORMAT_REGEX = "^\\$\\d+/.+$";
+    private static final BigInteger CENTS_PER_DOLLAR = BigInteger.valueOf(100);
+
+    private DollarAmount() {}
+
+    /**
+     * Returns true if the amount of a {@code $amount/unit} string is at most {@link #MAX_DOLLARS}.
+     */
+    static boolean isInRange(String value) {
+        int start = 1;
+        int end = value.indexOf('/');
+        while (start < end - 1 && value.charAt(start) == '0') {
+            start++;
+        }
+        return end - start <= Long.toString(MAX_DOLLARS).length();
+    }
+
+    /**
+     * Returns {@code value} with its amount lowered to {@link #MAX_DOLLARS} if it is a {@code $amount/unit} string
+     * whose amount is larger, or {@code value} itself otherwise.
+     * Amounts were not bounded before, so this lets such amounts in saved data still be read.
+     */
+    public static String clampToRange(String value) {
+        if (value == null || !value.matches(AMOUNT_FORMAT_REGEX) || isInRange(value)) {
+            return value;
+        }
+        return "$" + MAX_DOLLARS + value.substring(value.indexOf('/'));
+    }
+
+    /**
+     * Returns the amount in cents of a valid {@code $amount/unit} string.
+     */
+    static long parseCents(String value) {
+        return Long.parseLong(value.substring(1, value.indexOf('/'))) * 100;
+    }
+
+    /**
+     * Returns the unit of a valid {@code $amount/unit} string.
+     */
+    static String parseUnit(String value) {
+        return value.substring(value.indexOf('/') + 1);
+    }
+
+    /**
+     * Returns {@code cents} per {@code unit} as {@code $amount/unit} text, showing cents only if there are any.
+     */
+    public static String format(long cents, String unit) {
+        return format(Long.toString(cents / 100), cents % 100, unit);
+    }
+
+    /**
+     * Returns {@code cents} per {@code unit} as {@code $amount/unit} text, for totals too large for a long.
+     */
+    public static String format(BigInteger cents, String unit) {
+        BigInteger[] dollarsAndCents = cents.divideAndRemainder(CENTS_PER_DOLLAR);
+        return format(dollarsAndCents[0].toString(), dollarsAndCents[1].longValue(), unit);
+    }
+
+    private static String format(String dollars, long remainder, String unit) {
+        StringBuilder builder = new StringBuilder().append('$').append(dollars);
+        if (remainder != 0) {
+            builder.append(remainder < 10 ? ".0" : ".").append(remainder);
+        }
+        return builder.append('/').append(unit).toString();
+    }
+}
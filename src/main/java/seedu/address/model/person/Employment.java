@@ -6,23 +6,33 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 /**
  * Represents a Staff's employment status in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmployment(String)} )}
+ * There are only two employment statuses, {@link #PART_TIME} and {@link #FULL_TIME}, obtained through
+ * {@link #of(String)}.
  */
 public class Employment {
     public static final String MESSAGE_CONSTRAINTS =
             "Employment should be either full-time or part-time";
     public static final String VALIDATION_REGEX1 = "part-time";
     public static final String VALIDATION_REGEX2 = "full-time";
+
+    public static final Employment PART_TIME = new Employment(VALIDATION_REGEX1);
+    public static final Employment FULL_TIME = new Employment(VALIDATION_REGEX2);
+
     public final String employment;
 
+    private Employment(String employment) {
+        this.employment = employment;
+    }
+
     /**
-     * Constructs an {@code Employment}.
+     * Returns the {@code Employment} described by {@code employment}.
      *
      * @param employment A valid employment either part-time or full-time.
      */
-    public Employment(String employment) {
+    public static Employment of(String employment) {
         requireNonNull(employment);
         checkArgument(isValidEmployment(employment), MESSAGE_CONSTRAINTS);
-        this.employment = employment;
+        return employment.equals(PART_TIME.employment) ? PART_TIME : FULL_TIME;
     }
 
     /**
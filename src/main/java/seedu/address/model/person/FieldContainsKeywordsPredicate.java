@@ -0,0 +1,93 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.RefinablePredicate;
+import seedu.address.model.index.AddressBookIndex;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.index.TextField;
+
+/**
+ * Tests that a free-text field of a {@code Person} matches any of the keywords given.
+ * Persons without the field, e.g. the product of a non-supplier, never match.
+ */
+public class FieldContainsKeywordsPredicate implements IndexedPredicate, RefinablePredicate {
+    private final TextField field;
+    private final List<String> keywords;
+
+    /**
+     * Creates a predicate accepting persons whose {@code field} contains any of {@code keywords} as a whole word.
+     */
+    public FieldContainsKeywordsPredicate(TextField field, List<String> keywords) {
+        requireAllNonNull(field, keywords);
+        this.field = field;
+        this.keywords = keywords;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        String text = field.textOf(person);
+        return text != null && keywords.stream()
+                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(text, keyword));
+    }
+
+    @Override
+    public BitSet resolve(AddressBookIndex index) {
+        return index.getTokenIndex().queryAny(field, keywords);
+    }
+
+    @Override
+    public int estimate(AddressBookIndex index) {
+        return keywords.stream().mapToInt(keyword -> index.getTokenIndex().count(field, keyword)).sum();
+    }
+
+    @Override
+    public boolean refines(Predicate<Person> other) {
+        if (!(other instanceof FieldContainsKeywordsPredicate)) {
+            return false;
+        }
+        FieldContainsKeywordsPredicate otherPredicate = (FieldContainsKeywordsPredicate) other;
+        return field.equals(otherPredicate.field) && otherPredicate.keywords.containsAll(keywords);
+    }
+
+    @Override
+    public String describe() {
+        return field.name().toLowerCase() + " " + String.join(" or ", keywords);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FieldContainsKeywordsPredicate)) {
+            return false;
+        }
+
+        FieldContainsKeywordsPredicate otherFieldContainsKeywordsPredicate = (FieldContainsKeywordsPredicate) other;
+        return field.equals(otherFieldContainsKeywordsPredicate.field)
+                && keywords.equals(otherFieldContainsKeywordsPredicate.keywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("field", field)
+                .add("keywords", keywords)
+                .toString();
+    }
+}
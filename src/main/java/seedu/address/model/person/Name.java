@@ -6,6 +6,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
+ * Names are compared ignoring case, through a lowercase key and hash computed once on construction.
  */
 public class Name {
 
@@ -19,6 +20,8 @@ public class Name {
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
     public final String fullName;
+    private final String key;
+    private final int hash;
 
     /**
      * Constructs a {@code Name}.
@@ -29,6 +32,8 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        key = name.toLowerCase();
+        hash = key.hashCode();
     }
 
     /**
@@ -38,6 +43,13 @@ public class Name {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the case-insensitive key of this name.
+     * Two names are equal if and only if their keys are equal, so the key is safe to use in hash-based lookups.
+     */
+    public String getKey() {
+        return key;
+    }
 
     @Override
     public String toString() {
@@ -56,12 +68,12 @@ public class Name {
         }
 
         Name otherName = (Name) other;
-        return fullName.toLowerCase().equals(otherName.fullName.toLowerCase());
+        return hash == otherName.hash && key.equals(otherName.key);
     }
 
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        return hash;
     }
 
 }
@@ -1,15 +1,20 @@
 package seedu.address.model.person;
 
+import java.util.BitSet;
 import java.util.List;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.RefinablePredicate;
+import seedu.address.model.index.AddressBookIndex;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.index.TextField;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements IndexedPredicate, RefinablePredicate {
     private final List<String> keywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
@@ -22,6 +27,27 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
     }
 
+    @Override
+    public BitSet resolve(AddressBookIndex index) {
+        return index.getTokenIndex().queryAny(TextField.NAME, keywords);
+    }
+
+    @Override
+    public int estimate(AddressBookIndex index) {
+        return keywords.stream().mapToInt(keyword -> index.getTokenIndex().count(TextField.NAME, keyword)).sum();
+    }
+
+    @Override
+    public boolean refines(Predicate<Person> other) {
+        return other instanceof NameContainsKeywordsPredicate
+                && ((NameContainsKeywordsPredicate) other).keywords.containsAll(keywords);
+    }
+
+    @Override
+    public String describe() {
+        return "name " + String.join(" or ", keywords);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -37,6 +63,11 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         return keywords.equals(otherNameContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
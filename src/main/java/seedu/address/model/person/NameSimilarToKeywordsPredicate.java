@@ -0,0 +1,101 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.RefinablePredicate;
+import seedu.address.model.index.AddressBookIndex;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.index.TextField;
+import seedu.address.model.index.TrigramIndex;
+
+/**
+ * Tests that a word of a {@code Person}'s {@code Name} is within a few typing mistakes of any of the keywords given,
+ * ignoring case. The number of mistakes tolerated grows with the length of the keyword.
+ */
+public class NameSimilarToKeywordsPredicate implements IndexedPredicate, RefinablePredicate {
+    private final List<String> keywords;
+
+    /**
+     * Creates a predicate accepting persons with a name word similar to any of {@code keywords}.
+     */
+    public NameSimilarToKeywordsPredicate(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = keywords;
+    }
+
+    /**
+     * Returns the number of edits tolerated between {@code keyword} and a name word.
+     */
+    public static int getMaxDistance(String keyword) {
+        int length = keyword.trim().length();
+        return length <= 2 ? 0 : length <= 5 ? 1 : 2;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        String[] words = person.getName().getKey().split("\\s+");
+        return keywords.stream().anyMatch(keyword -> {
+            String query = keyword.trim().toLowerCase();
+            int maxDistance = getMaxDistance(query);
+            return Arrays.stream(words)
+                    .anyMatch(word -> StringUtil.boundedEditDistance(query, word, maxDistance) <= maxDistance);
+        });
+    }
+
+    @Override
+    public BitSet resolve(AddressBookIndex index) {
+        BitSet result = new BitSet();
+        for (String keyword : keywords) {
+            List<String> similarWords = index.getNameTrigrams().findSimilar(keyword, getMaxDistance(keyword))
+                    .stream()
+                    .map(TrigramIndex.Match::getWord)
+                    .collect(Collectors.toList());
+            result.or(index.getTokenIndex().queryAny(TextField.NAME, similarWords));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean refines(Predicate<Person> other) {
+        return other instanceof NameSimilarToKeywordsPredicate
+                && ((NameSimilarToKeywordsPredicate) other).keywords.containsAll(keywords);
+    }
+
+    @Override
+    public String describe() {
+        return "name similar to " + String.join(" or ", keywords);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameSimilarToKeywordsPredicate)) {
+            return false;
+        }
+
+        NameSimilarToKeywordsPredicate otherNameSimilarToKeywordsPredicate = (NameSimilarToKeywordsPredicate) other;
+        return keywords.equals(otherNameSimilarToKeywordsPredicate.keywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.RefinablePredicate;
+import seedu.address.model.index.AddressBookIndex;
+import seedu.address.model.index.IndexedPredicate;
+
+/**
+ * Tests that a word of a {@code Person}'s {@code Name} starts with any of the prefixes given, ignoring case.
+ */
+public class NameStartsWithKeywordsPredicate implements IndexedPredicate, RefinablePredicate {
+    private final List<String> prefixes;
+
+    /**
+     * Creates a predicate accepting persons with a name word starting with any of {@code prefixes}.
+     */
+    public NameStartsWithKeywordsPredicate(List<String> prefixes) {
+        requireNonNull(prefixes);
+        this.prefixes = prefixes;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        String[] words = person.getName().getKey().split("\\s+");
+        return prefixes.stream()
+                .map(String::toLowerCase)
+                .anyMatch(prefix -> Arrays.stream(words).anyMatch(word -> word.startsWith(prefix)));
+    }
+
+    @Override
+    public BitSet resolve(AddressBookIndex index) {
+        BitSet result = new BitSet();
+        for (String prefix : prefixes) {
+            result.or(index.getNamePrefixes().query(prefix));
+        }
+        return result;
+    }
+
+    /**
+     * Returns true if {@code other} also matches name words by prefix, and each of the prefixes of this predicate
+     * extends one of the prefixes of {@code other}.
+     */
+    @Override
+    public boolean refines(Predicate<Person> other) {
+        if (!(other instanceof NameStartsWithKeywordsPredicate)) {
+            return false;
+        }
+        List<String> otherPrefixes = ((NameStartsWithKeywordsPredicate) other).prefixes;
+        return prefixes.stream().allMatch(prefix -> otherPrefixes.stream()
+                .anyMatch(otherPrefix -> prefix.toLowerCase().startsWith(otherPrefix.toLowerCase())));
+    }
+
+    @Override
+    public String describe() {
+        return "name starts with " + String.join(" or ", prefixes);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameStartsWithKeywordsPredicate)) {
+            return false;
+        }
+
+        NameStartsWithKeywordsPredicate otherNameStartsWithKeywordsPredicate = (NameStartsWithKeywordsPredicate) other;
+        return prefixes.equals(otherNameStartsWithKeywordsPredicate.prefixes);
+    }
+
+    @Override
+    public int hashCode() {
+        return prefixes.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("prefixes", prefixes).toString();
+    }
+}
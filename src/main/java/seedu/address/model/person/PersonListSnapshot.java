@@ -0,0 +1,89 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.util.PersistentHashMap;
+import seedu.address.commons.util.PersistentVector;
+
+/**
+ * An immutable copy of the contents of a {@code UniquePersonList} at one point in time.
+ * It shares its structure with the list it was taken from, so taking it costs O(1) regardless of the number of
+ * persons, and it never changes when the list does.
+ */
+public final class PersonListSnapshot {
+
+    private final PersistentVector<Person> persons;
+    private final PersistentHashMap<Name, Person> nameIndex;
+    private final PersistentHashMap<Name, Long> orderKeys;
+    private final long nextOrderKey;
+
+    PersonListSnapshot(PersistentVector<Person> persons, PersistentHashMap<Name, Person> nameIndex,
+            PersistentHashMap<Name, Long> orderKeys, long nextOrderKey) {
+        this.persons = persons;
+        this.nameIndex = nameIndex;
+        this.orderKeys = orderKeys;
+        this.nextOrderKey = nextOrderKey;
+    }
+
+    /**
+     * Returns the persons in the snapshot as an unmodifiable list, in list order.
+     */
+    public List<Person> asList() {
+        return persons.asList();
+    }
+
+    public int size() {
+        return persons.size();
+    }
+
+    /**
+     * Returns the person in the snapshot whose name is equal to {@code name}, or null if there is no such person.
+     */
+    public Person getByName(Name name) {
+        requireNonNull(name);
+        return nameIndex.get(name);
+    }
+
+    PersistentVector<Person> getPersons() {
+        return persons;
+    }
+
+    PersistentHashMap<Name, Person> getNameIndex() {
+        return nameIndex;
+    }
+
+    PersistentHashMap<Name, Long> getOrderKeys() {
+        return orderKeys;
+    }
+
+    long getNextOrderKey() {
+        return nextOrderKey;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonListSnapshot)) {
+            return false;
+        }
+
+        PersonListSnapshot otherSnapshot = (PersonListSnapshot) other;
+        return persons.equals(otherSnapshot.persons);
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return persons.toString();
+    }
+}
@@ -3,15 +3,24 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Supplier's product price in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPrice(String)}
+ * The amount is stored in cents and formatted back into text only when first needed.
  */
-public class Price {
+public class Price implements Comparable<Price> {
     public static final String MESSAGE_CONSTRAINTS =
-            "Salary should in this format of ${amount}/h";
+            "Price should be in this format of $amount/unit, where the amount is a whole number of dollars "
+            + "of at most " + DollarAmount.MAX_DOLLARS;
     public static final String VALIDATION_REGEX = "^\\$\\d+/.+$";
-    public final String price;
+
+    private static final Interner<String> UNITS = new Interner<>(unit -> unit);
+
+    private final long cents;
+    private final String unit;
+    private String formatted;
 
     /**
      * Constructs an {@code Product}.
@@ -21,19 +30,50 @@ public class Price {
     public Price(String price) {
         requireNonNull(price);
         checkArgument(isValidPrice(price), MESSAGE_CONSTRAINTS);
-        this.price = price;
+        this.cents = DollarAmount.parseCents(price);
+        this.unit = UNITS.intern(DollarAmount.parseUnit(price));
     }
 
     /**
-     * Returns true if a given string is a valid salary.
+     * Returns true if a given string is a valid price.
      */
     public static boolean isValidPrice(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return test.matches(VALIDATION_REGEX) && DollarAmount.isInRange(test);
+    }
+
+    /**
+     * Returns the price in whole dollars per unit.
+     */
+    public long getAmount() {
+        return cents / 100;
+    }
+
+    /**
+     * Returns the price in cents per unit.
+     */
+    public long getCents() {
+        return cents;
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+
+    /**
+     * Compares by amount, then by unit.
+     */
+    @Override
+    public int compareTo(Price other) {
+        int byAmount = Long.compare(cents, other.cents);
+        return byAmount != 0 ? byAmount : unit.compareTo(other.unit);
     }
 
     @Override
     public String toString() {
-        return price;
+        if (formatted == null) {
+            formatted = DollarAmount.format(cents, unit);
+        }
+        return formatted;
     }
 
     @Override
@@ -48,11 +88,11 @@ public class Price {
         }
 
         Price otherPrice = (Price) other;
-        return price.equals(otherPrice.price);
+        return cents == otherPrice.cents && unit.equals(otherPrice.unit);
     }
 
     @Override
     public int hashCode() {
-        return price.hashCode();
+        return 31 * Long.hashCode(cents) + unit.hashCode();
     }
 }
@@ -3,9 +3,12 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Supplier's product in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidProduct(String)}
+ * Equal products are shared through {@link #of(String)}.
  */
 public class Product {
     public static final String MESSAGE_CONSTRAINTS = "Product can take any values, and it should not be blank";
@@ -15,6 +18,8 @@ public class Product {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    private static final Interner<Product> POOL = new Interner<>(Product::new);
+
     public final String product;
 
     /**
@@ -28,6 +33,15 @@ public class Product {
         this.product = product;
     }
 
+    /**
+     * Returns the shared {@code Product} of {@code product}.
+     *
+     * @param product A valid product.
+     */
+    public static Product of(String product) {
+        return POOL.intern(product);
+    }
+
     /**
      * Returns true if a given string is a valid product.
      */
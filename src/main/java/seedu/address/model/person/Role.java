@@ -0,0 +1,25 @@
+package seedu.address.model.person;
+
+/**
+ * The roles a person in the address book can have.
+ */
+public enum Role {
+    PERSON,
+    STAFF,
+    SUPPLIER,
+    MAINTAINER;
+
+    /**
+     * Returns the role of {@code person}.
+     */
+    public static Role of(Person person) {
+        if (person instanceof Staff) {
+            return STAFF;
+        } else if (person instanceof Supplier) {
+            return SUPPLIER;
+        } else if (person instanceof Maintainer) {
+            return MAINTAINER;
+        }
+        return PERSON;
+    }
+}
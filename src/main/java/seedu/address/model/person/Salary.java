@@ -6,12 +6,17 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 /**
  * Represents a Staff's salary in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidSalary(String)}
+ * The amount is stored in cents and formatted back into text only when first needed.
  */
-public class Salary {
+public class Salary implements Comparable<Salary> {
     public static final String MESSAGE_CONSTRAINTS =
-            "Salary should in this format of ${amount}/hr";
+            "Salary should in this format of ${amount}/hr, where the amount is a whole number of dollars "
+            + "of at most " + DollarAmount.MAX_DOLLARS;
     public static final String VALIDATION_REGEX = "^\\$\\d+/hr$";
-    public final String value;
+    public static final String UNIT = "hr";
+
+    private final long cents;
+    private String formatted;
 
     /**
      * Constructs an {@code Salary}.
@@ -21,19 +26,45 @@ public class Salary {
     public Salary(String value) {
         requireNonNull(value);
         checkArgument(isValidSalary(value), MESSAGE_CONSTRAINTS);
-        this.value = value;
+        this.cents = DollarAmount.parseCents(value);
     }
 
     /**
      * Returns true if a given string is a valid salary.
      */
     public static boolean isValidSalary(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return test.matches(VALIDATION_REGEX) && DollarAmount.isInRange(test);
+    }
+
+    /**
+     * Returns the value in whole dollars per unit.
+     */
+    public long getAmount() {
+        return cents / 100;
+    }
+
+    /**
+     * Returns the value in cents per unit.
+     */
+    public long getCents() {
+        return cents;
+    }
+
+    public String getUnit() {
+        return UNIT;
+    }
+
+    @Override
+    public int compareTo(Salary other) {
+        return Long.compare(cents, other.cents);
     }
 
     @Override
     public String toString() {
-        return value;
+        if (formatted == null) {
+            formatted = DollarAmount.format(cents, UNIT);
+        }
+        return formatted;
     }
 
     @Override
@@ -48,11 +79,11 @@ public class Salary {
         }
 
         Salary otherSalary = (Salary) other;
-        return value.equals(otherSalary.value);
+        return cents == otherSalary.cents;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Long.hashCode(cents);
     }
 }
@@ -3,9 +3,12 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.Interner;
+
 /**
  * Represents a Supplier's product in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidSkill(String)}
+ * Equal skills are shared through {@link #of(String)}.
  */
 public class Skill {
     public static final String MESSAGE_CONSTRAINTS = "Skill can take any values, and it should not be blank";
@@ -15,6 +18,8 @@ public class Skill {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    private static final Interner<Skill> POOL = new Interner<>(Skill::new);
+
     public final String skill;
 
     /**
@@ -28,6 +33,15 @@ public class Skill {
         this.skill = skill;
     }
 
+    /**
+     * Returns the shared {@code Skill} of {@code skill}.
+     *
+     * @param skill A valid skill.
+     */
+    public static Skill of(String skill) {
+        return POOL.intern(skill);
+    }
+
     /**
      * Returns true if a given string is a valid product.
      */
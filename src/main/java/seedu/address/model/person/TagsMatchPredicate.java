@@ -0,0 +1,103 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.RefinablePredicate;
+import seedu.address.model.index.AddressBookIndex;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Tests that a {@code Person} carries every one of the required tags and none of the excluded tags.
+ */
+public class TagsMatchPredicate implements IndexedPredicate, RefinablePredicate {
+    private final Set<Tag> requiredTags;
+    private final Set<Tag> excludedTags;
+
+    /**
+     * Creates a predicate accepting persons tagged with all of {@code requiredTags} and none of {@code excludedTags}.
+     */
+    public TagsMatchPredicate(Set<Tag> requiredTags, Set<Tag> excludedTags) {
+        requireAllNonNull(requiredTags, excludedTags);
+        this.requiredTags = Collections.unmodifiableSet(new HashSet<>(requiredTags));
+        this.excludedTags = Collections.unmodifiableSet(new HashSet<>(excludedTags));
+    }
+
+    @Override
+    public boolean test(Person person) {
+        Set<Tag> tags = person.getTags();
+        return tags.containsAll(requiredTags) && Collections.disjoint(tags, excludedTags);
+    }
+
+    @Override
+    public BitSet resolve(AddressBookIndex index) {
+        return index.getTagIndex().query(requiredTags, excludedTags, index.getSlots().occupied());
+    }
+
+    /**
+     * Returns the number of persons carrying the rarest required tag, or every person if no tag is required.
+     */
+    @Override
+    public int estimate(AddressBookIndex index) {
+        return requiredTags.stream()
+                .mapToInt(tag -> index.getTagIndex().count(tag))
+                .min()
+                .orElse(index.getSlots().size());
+    }
+
+    @Override
+    public boolean refines(Predicate<Person> other) {
+        if (!(other instanceof TagsMatchPredicate)) {
+            return false;
+        }
+        TagsMatchPredicate otherPredicate = (TagsMatchPredicate) other;
+        return requiredTags.containsAll(otherPredicate.requiredTags)
+                && excludedTags.containsAll(otherPredicate.excludedTags);
+    }
+
+    @Override
+    public String describe() {
+        Stream<String> required = requiredTags.stream().map(tag -> "tag " + tag.tagName).sorted();
+        Stream<String> excluded = excludedTags.stream().map(tag -> "not tag " + tag.tagName).sorted();
+        return Stream.concat(required, excluded).collect(Collectors.joining(" and "));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TagsMatchPredicate)) {
+            return false;
+        }
+
+        TagsMatchPredicate otherTagsMatchPredicate = (TagsMatchPredicate) other;
+        return requiredTags.equals(otherTagsMatchPredicate.requiredTags)
+                && excludedTags.equals(otherTagsMatchPredicate.excludedTags);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(requiredTags, excludedTags);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("requiredTags", requiredTags)
+                .add("excludedTags", excludedTags)
+                .toString();
+    }
+}
@@ -3,11 +3,14 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentHashMap;
+import seedu.address.commons.util.PersistentVector;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -18,22 +21,45 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Identity checks are answered by an index from {@code Name} to the person holding that name, which is kept in sync
+ * with the backing list by every mutating operation.
+ * Several operations can be grouped with {@link #applyBatch(Runnable)} so that listeners are notified only once.
+ *
+ * The backing list and the name index are persistent structures, which are updated in O(log n) and share most of
+ * their nodes with earlier versions, so that {@link #snapshot()} can capture the list in O(1).
+ * Each person also holds an order key, which increases along the list, so that the position of a person is found by
+ * a binary search on the keys in O(log n) rather than by a scan. A person keeps its key when it is replaced.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final BatchableObservableList<Person> internalList = new BatchableObservableList<>();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private PersistentHashMap<Name, Person> nameIndex = PersistentHashMap.empty();
+    private PersistentHashMap<Name, Long> orderKeys = PersistentHashMap.empty();
+    private final Comparator<Person> byOrderKey = Comparator.comparingLong(person -> orderKeys.get(person.getName()));
+
+    /** Larger than the order key of every person ever in the list, so that appended persons sort last. */
+    private long nextOrderKey;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return nameIndex.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the person in the list whose name is equal to {@code name}, or null if there is no such person.
+     */
+    public Person getByName(Name name) {
+        requireNonNull(name);
+        return nameIndex.get(name);
     }
 
     /**
@@ -45,9 +71,46 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        nameIndex = nameIndex.plus(toAdd.getName(), toAdd);
+        orderKeys = orderKeys.plus(toAdd.getName(), nextOrderKey++);
         internalList.add(toAdd);
     }
 
+    /**
+     * Inserts a person into the list with {@code orderKey}, at the position among the other persons that the key
+     * belongs, e.g. to put back a person with the order key it had before it was removed.
+     * The person must not already exist in the list, and no person in the list may hold {@code orderKey}.
+     */
+    public void add(long orderKey, Person toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        nameIndex = nameIndex.plus(toAdd.getName(), toAdd);
+        orderKeys = orderKeys.plus(toAdd.getName(), orderKey);
+        nextOrderKey = Math.max(nextOrderKey, orderKey + 1);
+        internalList.add(-internalList.binarySearch(toAdd, byOrderKey) - 1, toAdd);
+    }
+
+    /**
+     * Returns the order key of the person equal to {@code person}.
+     *
+     * @throws PersonNotFoundException if no such person exists in the list.
+     */
+    public long getOrderKey(Person person) {
+        requireNonNull(person);
+        return orderKeys.get(getExisting(person).getName());
+    }
+
+    /**
+     * Returns the position in the list of the person equal to {@code person}, or -1 if there is no such person.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        Person existing = nameIndex.get(person.getName());
+        return existing == null || !existing.equals(person) ? -1 : positionOf(existing);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -56,15 +119,16 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
-            throw new PersonNotFoundException();
-        }
+        Person existing = getExisting(target);
 
         if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
             throw new DuplicatePersonException();
         }
 
+        int index = positionOf(existing);
+        Long orderKey = orderKeys.get(existing.getName());
+        nameIndex = nameIndex.minus(existing.getName()).plus(editedPerson.getName(), editedPerson);
+        orderKeys = orderKeys.minus(existing.getName()).plus(editedPerson.getName(), orderKey);
         internalList.set(index, editedPerson);
     }
 
@@ -74,27 +138,68 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
-            throw new PersonNotFoundException();
-        }
+        Person existing = getExisting(toRemove);
+        int index = positionOf(existing);
+        nameIndex = nameIndex.minus(existing.getName());
+        orderKeys = orderKeys.minus(existing.getName());
+        internalList.remove(index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setPersons(replacement.snapshot());
+    }
+
+    /**
+     * Replaces the contents of this list with the persons captured by {@code snapshot}.
+     * The snapshot is already known to be unique, so its structures are adopted without being validated again.
+     */
+    public void setPersons(PersonListSnapshot snapshot) {
+        requireNonNull(snapshot);
+        nameIndex = snapshot.getNameIndex();
+        orderKeys = snapshot.getOrderKeys();
+        nextOrderKey = Math.max(nextOrderKey, snapshot.getNextOrderKey());
+        internalList.setAll(snapshot.getPersons());
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * Uniqueness is validated in a single hashing pass and the backing list is replaced with one change.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        PersistentHashMap<Name, Person> replacementIndex = indexByName(persons);
+        PersistentHashMap<Name, Long> replacementOrderKeys = PersistentHashMap.empty();
+        for (Person person : persons) {
+            replacementOrderKeys = replacementOrderKeys.plus(person.getName(), nextOrderKey++);
         }
 
-        internalList.setAll(persons);
+        nameIndex = replacementIndex;
+        orderKeys = replacementOrderKeys;
+        internalList.setAll(PersistentVector.of(persons));
+    }
+
+    /**
+     * Runs {@code mutations}, which may call the mutating operations of this list, and then notifies the listeners
+     * of this list once, with every change made by {@code mutations} combined.
+     */
+    public void applyBatch(Runnable mutations) {
+        requireNonNull(mutations);
+        internalList.beginBatch();
+        try {
+            mutations.run();
+        } finally {
+            internalList.endBatch();
+        }
+    }
+
+    /**
+     * Returns an immutable copy of the current contents of this list, taken in O(1).
+     * Later changes to this list do not affect the snapshot.
+     */
+    public PersonListSnapshot snapshot() {
+        return new PersonListSnapshot(internalList.getElements(), nameIndex, orderKeys, nextOrderKey);
     }
 
     /**
@@ -135,16 +240,38 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the person stored in this list that is equal to {@code person}.
+     *
+     * @throws PersonNotFoundException if no such person exists in the list.
+     */
+    private Person getExisting(Person person) {
+        Person existing = nameIndex.get(person.getName());
+        if (existing == null || !existing.equals(person)) {
+            throw new PersonNotFoundException();
+        }
+        return existing;
+    }
+
+    /**
+     * Returns the position of {@code existing} in the backing list, found by its order key in O(log n).
+     */
+    private int positionOf(Person existing) {
+        return internalList.binarySearch(existing, byOrderKey);
+    }
+
+    /**
+     * Returns an index from name to person over {@code persons}.
+     *
+     * @throws DuplicatePersonException if {@code persons} contains persons with the same identity.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static PersistentHashMap<Name, Person> indexByName(List<Person> persons) {
+        PersistentHashMap<Name, Person> index = PersistentHashMap.empty();
+        for (Person person : persons) {
+            if (index.containsKey(person.getName())) {
+                throw new DuplicatePersonException();
             }
+            index = index.plus(person.getName(), person);
         }
-        return true;
+        return index;
     }
 }
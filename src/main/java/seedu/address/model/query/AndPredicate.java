@@ -0,0 +1,97 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.RefinablePredicate;
+import seedu.address.model.index.AddressBookIndex;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} satisfies every one of the operands given.
+ * Resolving it from the indexes runs the plan made by {@link QueryPlanner}, so the most selective operand is looked
+ * up first and the others only narrow down its matches.
+ */
+public class AndPredicate implements IndexedPredicate, RefinablePredicate {
+    private final List<Predicate<Person>> operands;
+
+    /**
+     * Creates a predicate accepting persons that satisfy all of {@code operands}.
+     */
+    public AndPredicate(List<? extends Predicate<Person>> operands) {
+        requireNonNull(operands);
+        this.operands = List.copyOf(operands);
+    }
+
+    public List<Predicate<Person>> getOperands() {
+        return operands;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return operands.stream().allMatch(operand -> operand.test(person));
+    }
+
+    @Override
+    public BitSet resolve(AddressBookIndex index) {
+        return QueryPlanner.plan(this, index).execute(index);
+    }
+
+    @Override
+    public int estimate(AddressBookIndex index) {
+        return QueryPlanner.plan(this, index).getEstimate();
+    }
+
+    /**
+     * Returns true if each operand of {@code other}, or {@code other} itself if it is not an {@code AndPredicate},
+     * is equal to or refined by one of the operands of this predicate.
+     */
+    @Override
+    public boolean refines(Predicate<Person> other) {
+        if (other instanceof AndPredicate) {
+            return ((AndPredicate) other).operands.stream().allMatch(this::hasOperandRefining);
+        }
+        return hasOperandRefining(other);
+    }
+
+    private boolean hasOperandRefining(Predicate<Person> other) {
+        return operands.stream().anyMatch(operand -> operand.equals(other)
+                || operand instanceof RefinablePredicate && ((RefinablePredicate) operand).refines(other));
+    }
+
+    @Override
+    public String describe() {
+        return operands.stream().map(QueryPlanner::describeOperand).collect(Collectors.joining(" and "));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AndPredicate)) {
+            return false;
+        }
+
+        AndPredicate otherAndPredicate = (AndPredicate) other;
+        return operands.equals(otherAndPredicate.operands);
+    }
+
+    @Override
+    public int hashCode() {
+        return operands.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("operands", operands).toString();
+    }
+}
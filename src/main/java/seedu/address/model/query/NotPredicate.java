@@ -0,0 +1,74 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.index.AddressBookIndex;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} does not satisfy the operand given.
+ * Its matches cannot be counted from the indexes, so the planner tests it on the matches of other conditions
+ * rather than looking it up whenever there are any.
+ */
+public class NotPredicate implements IndexedPredicate {
+    private final Predicate<Person> operand;
+
+    /**
+     * Creates a predicate accepting persons that do not satisfy {@code operand}.
+     */
+    public NotPredicate(Predicate<Person> operand) {
+        requireNonNull(operand);
+        this.operand = operand;
+    }
+
+    public Predicate<Person> getOperand() {
+        return operand;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return !operand.test(person);
+    }
+
+    @Override
+    public BitSet resolve(AddressBookIndex index) {
+        BitSet result = index.getSlots().occupied();
+        result.andNot(QueryPlanner.resolve(operand, index));
+        return result;
+    }
+
+    @Override
+    public String describe() {
+        return "not " + QueryPlanner.describeOperand(operand);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NotPredicate)) {
+            return false;
+        }
+
+        NotPredicate otherNotPredicate = (NotPredicate) other;
+        return operand.equals(otherNotPredicate.operand);
+    }
+
+    @Override
+    public int hashCode() {
+        return operand.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("operand", operand).toString();
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.index.AddressBookIndex;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} satisfies any of the operands given.
+ */
+public class OrPredicate implements IndexedPredicate {
+    private final List<Predicate<Person>> operands;
+
+    /**
+     * Creates a predicate accepting persons that satisfy at least one of {@code operands}.
+     */
+    public OrPredicate(List<? extends Predicate<Person>> operands) {
+        requireNonNull(operands);
+        this.operands = List.copyOf(operands);
+    }
+
+    public List<Predicate<Person>> getOperands() {
+        return operands;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return operands.stream().anyMatch(operand -> operand.test(person));
+    }
+
+    @Override
+    public BitSet resolve(AddressBookIndex index) {
+        BitSet result = new BitSet();
+        for (Predicate<Person> operand : operands) {
+            result.or(QueryPlanner.resolve(operand, index));
+        }
+        return result;
+    }
+
+    @Override
+    public int estimate(AddressBookIndex index) {
+        long total = operands.stream().mapToLong(operand -> QueryPlanner.estimate(operand, index)).sum();
+        return (int) Math.min(total, index.getSlots().size());
+    }
+
+    @Override
+    public String describe() {
+        return operands.stream().map(QueryPlanner::describeOperand).collect(Collectors.joining(" or "));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof OrPredicate)) {
+            return false;
+        }
+
+        OrPredicate otherOrPredicate = (OrPredicate) other;
+        return operands.equals(otherOrPredicate.operands);
+    }
+
+    @Override
+    public int hashCode() {
+        return operands.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("operands", operands).toString();
+    }
+}
@@ -0,0 +1,202 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.index.AddressBookIndex;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.index.PersonSlots;
+import seedu.address.model.person.Person;
+
+/**
+ * The steps that find the persons satisfying a predicate, in the order {@link QueryPlanner} chose, together with
+ * the number of persons each step is expected to handle.
+ */
+public final class QueryPlan {
+
+    public static final String MESSAGE_HEADER = "Searching %1$d persons, expecting at most %2$d matches:";
+    public static final String MESSAGE_LOOKUP = "%1$d. look up %2$s, matching at most %3$d persons";
+    public static final String MESSAGE_FILTER = "%1$d. test %2$s on at most %3$d candidates";
+
+    /**
+     * How a step finds its matches.
+     */
+    public enum Access {
+        /** Reads the matches from the indexes and intersects them with the candidates. */
+        LOOKUP,
+        /** Tests each candidate in turn. */
+        FILTER
+    }
+
+    /**
+     * One condition of the plan and how it is applied.
+     */
+    public static final class Step {
+        private final Predicate<Person> predicate;
+        private final Access access;
+        private final int estimate;
+
+        Step(Predicate<Person> predicate, Access access, int estimate) {
+            this.predicate = predicate;
+            this.access = access;
+            this.estimate = estimate;
+        }
+
+        public Predicate<Person> getPredicate() {
+            return predicate;
+        }
+
+        public Access getAccess() {
+            return access;
+        }
+
+        /**
+         * Returns the most persons the step may match for a lookup, or may test for a filter.
+         */
+        public int getEstimate() {
+            return estimate;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Step)) {
+                return false;
+            }
+
+            Step otherStep = (Step) other;
+            return predicate.equals(otherStep.predicate)
+                    && access == otherStep.access
+                    && estimate == otherStep.estimate;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(predicate, access, estimate);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("predicate", predicate)
+                    .add("access", access)
+                    .add("estimate", estimate)
+                    .toString();
+        }
+    }
+
+    private final List<Step> steps;
+    private final int personCount;
+    private final int estimate;
+
+    QueryPlan(List<Step> steps, int personCount, int estimate) {
+        this.steps = List.copyOf(steps);
+        this.personCount = personCount;
+        this.estimate = estimate;
+    }
+
+    public List<Step> getSteps() {
+        return steps;
+    }
+
+    /**
+     * Returns the most persons the plan may match.
+     */
+    public int getEstimate() {
+        return estimate;
+    }
+
+    /**
+     * Runs the plan against {@code index} and returns the slots of the matching persons.
+     * Stops early once no candidates remain.
+     */
+    public BitSet execute(AddressBookIndex index) {
+        requireNonNull(index);
+        BitSet candidates = null;
+        for (Step step : steps) {
+            if (candidates != null && candidates.isEmpty()) {
+                break;
+            }
+            if (step.access == Access.LOOKUP) {
+                BitSet matches = ((IndexedPredicate) step.predicate).resolve(index);
+                if (candidates == null) {
+                    candidates = matches;
+                } else {
+                    candidates.and(matches);
+                }
+            } else {
+                if (candidates == null) {
+                    candidates = index.getSlots().occupied();
+                }
+                retainMatches(candidates, step.predicate, index);
+            }
+        }
+        return candidates == null ? index.getSlots().occupied() : candidates;
+    }
+
+    /**
+     * Clears the slots in {@code candidates} of the persons in {@code index} that fail {@code predicate}.
+     */
+    static void retainMatches(BitSet candidates, Predicate<Person> predicate, AddressBookIndex index) {
+        PersonSlots slots = index.getSlots();
+        for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+            if (!predicate.test(slots.get(slot))) {
+                candidates.clear(slot);
+            }
+        }
+    }
+
+    /**
+     * Returns a description of the plan, one line per step.
+     */
+    public String explain() {
+        StringBuilder explanation = new StringBuilder(String.format(MESSAGE_HEADER, personCount, estimate));
+        for (int i = 0; i < steps.size(); i++) {
+            Step step = steps.get(i);
+            String format = step.access == Access.LOOKUP ? MESSAGE_LOOKUP : MESSAGE_FILTER;
+            explanation.append('\n')
+                    .append(String.format(format, i + 1, QueryPlanner.describe(step.predicate), step.estimate));
+        }
+        return explanation.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QueryPlan)) {
+            return false;
+        }
+
+        QueryPlan otherPlan = (QueryPlan) other;
+        return steps.equals(otherPlan.steps)
+                && personCount == otherPlan.personCount
+                && estimate == otherPlan.estimate;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(steps, personCount, estimate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("steps", steps)
+                .add("personCount", personCount)
+                .add("estimate", estimate)
+                .toString();
+    }
+}
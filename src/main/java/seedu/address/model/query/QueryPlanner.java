@@ -0,0 +1,176 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.model.index.AddressBookIndex;
+import seedu.address.model.index.IndexedPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Plans how to find the persons in an address book that satisfy a predicate.
+ * The conditions of a conjunction are ordered by how many persons each may match, as estimated from the sizes of
+ * the index entries involved. The most selective condition is looked up from the indexes, and each later one is
+ * either looked up and intersected, or tested on the remaining candidates when there are fewer candidates than
+ * persons it may match. Conditions that no index covers are tested last.
+ */
+public class QueryPlanner {
+
+    /** How conditions that are not {@code IndexedPredicate}s, and so cannot describe themselves, are described. */
+    public static final String UNINDEXED_DESCRIPTION = "an unindexed condition";
+
+    private QueryPlanner() {}
+
+    /**
+     * Returns the plan for finding the persons in {@code index} that satisfy {@code predicate}.
+     */
+    public static QueryPlan plan(Predicate<Person> predicate, AddressBookIndex index) {
+        requireAllNonNull(predicate, index);
+        List<Predicate<Person>> conditions = new ArrayList<>();
+        flatten(predicate, conditions);
+
+        List<Estimated> indexed = new ArrayList<>();
+        List<Predicate<Person>> unindexed = new ArrayList<>();
+        for (Predicate<Person> condition : conditions) {
+            if (condition instanceof IndexedPredicate) {
+                indexed.add(new Estimated((IndexedPredicate) condition, estimate(condition, index)));
+            } else {
+                unindexed.add(condition);
+            }
+        }
+        indexed.sort(Comparator.comparingInt(estimated -> estimated.estimate));
+
+        int personCount = index.getSlots().size();
+        int candidates = personCount;
+        List<QueryPlan.Step> steps = new ArrayList<>();
+        for (Estimated condition : indexed) {
+            if (steps.isEmpty() || condition.estimate <= candidates) {
+                steps.add(new QueryPlan.Step(condition.predicate, QueryPlan.Access.LOOKUP, condition.estimate));
+                candidates = Math.min(candidates, condition.estimate);
+            } else {
+                steps.add(new QueryPlan.Step(condition.predicate, QueryPlan.Access.FILTER, candidates));
+            }
+        }
+        for (Predicate<Person> condition : unindexed) {
+            steps.add(new QueryPlan.Step(condition, QueryPlan.Access.FILTER, candidates));
+        }
+        return new QueryPlan(steps, personCount, candidates);
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} in a canonical form, so that predicates differing only in
+     * the order, nesting or repetition of the operands of conjunctions and disjunctions, or in double negations,
+     * become equal. Operands are ordered by their string form.
+     */
+    public static Predicate<Person> normalize(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        if (predicate instanceof AndPredicate) {
+            List<Predicate<Person>> operands = normalizeOperands(((AndPredicate) predicate).getOperands(),
+                    operand -> operand instanceof AndPredicate ? ((AndPredicate) operand).getOperands() : null);
+            return operands.size() == 1 ? operands.get(0) : new AndPredicate(operands);
+        } else if (predicate instanceof OrPredicate) {
+            List<Predicate<Person>> operands = normalizeOperands(((OrPredicate) predicate).getOperands(),
+                    operand -> operand instanceof OrPredicate ? ((OrPredicate) operand).getOperands() : null);
+            return operands.size() == 1 ? operands.get(0) : new OrPredicate(operands);
+        } else if (predicate instanceof NotPredicate) {
+            Predicate<Person> operand = normalize(((NotPredicate) predicate).getOperand());
+            return operand instanceof NotPredicate ? ((NotPredicate) operand).getOperand() : new NotPredicate(operand);
+        }
+        return predicate;
+    }
+
+    /**
+     * Returns the normalized {@code operands}, with the operands of nested predicates of the same kind, as given by
+     * {@code nestedOperands}, lifted out and duplicates removed.
+     */
+    private static List<Predicate<Person>> normalizeOperands(List<Predicate<Person>> operands,
+            Function<Predicate<Person>, List<Predicate<Person>>> nestedOperands) {
+        return operands.stream()
+                .map(QueryPlanner::normalize)
+                .flatMap(operand -> {
+                    List<Predicate<Person>> nested = nestedOperands.apply(operand);
+                    return nested == null ? Stream.of(operand) : nested.stream();
+                })
+                .distinct()
+                .sorted(Comparator.comparing(Object::toString))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the slots of the persons in {@code index} that satisfy {@code predicate}, looked up from the indexes
+     * if it is an {@code IndexedPredicate} and found by testing every person otherwise.
+     */
+    public static BitSet resolve(Predicate<Person> predicate, AddressBookIndex index) {
+        requireAllNonNull(predicate, index);
+        if (predicate instanceof IndexedPredicate) {
+            return ((IndexedPredicate) predicate).resolve(index);
+        }
+        BitSet result = index.getSlots().occupied();
+        QueryPlan.retainMatches(result, predicate, index);
+        return result;
+    }
+
+    /**
+     * Returns an upper bound on the number of persons in {@code index} that satisfy {@code predicate}.
+     */
+    public static int estimate(Predicate<Person> predicate, AddressBookIndex index) {
+        requireAllNonNull(predicate, index);
+        int personCount = index.getSlots().size();
+        if (predicate instanceof IndexedPredicate) {
+            return Math.min(((IndexedPredicate) predicate).estimate(index), personCount);
+        }
+        return personCount;
+    }
+
+    /**
+     * Returns a short description of {@code predicate} for showing to users.
+     */
+    public static String describe(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        return predicate instanceof IndexedPredicate
+                ? ((IndexedPredicate) predicate).describe()
+                : UNINDEXED_DESCRIPTION;
+    }
+
+    /**
+     * Returns the description of {@code operand} of a compound predicate, in parentheses if it is compound itself.
+     */
+    static String describeOperand(Predicate<Person> operand) {
+        String description = describe(operand);
+        boolean isCompound = operand instanceof AndPredicate || operand instanceof OrPredicate;
+        return isCompound ? "(" + description + ")" : description;
+    }
+
+    /**
+     * Adds the conditions of {@code predicate} to {@code conditions}, unnesting conjunctions of conjunctions.
+     */
+    private static void flatten(Predicate<Person> predicate, List<Predicate<Person>> conditions) {
+        if (predicate instanceof AndPredicate) {
+            ((AndPredicate) predicate).getOperands().forEach(operand -> flatten(operand, conditions));
+        } else {
+            conditions.add(predicate);
+        }
+    }
+
+    /**
+     * A condition with its estimated number of matches.
+     */
+    private static class Estimated {
+        private final IndexedPredicate predicate;
+        private final int estimate;
+
+        Estimated(IndexedPredicate predicate, int estimate) {
+            this.predicate = predicate;
+            this.estimate = estimate;
+        }
+    }
+}
@@ -20,6 +20,6 @@ class JsonAdaptedMaintainer extends JsonAdaptedPerson {
         super(source);
         Maintainer supplier = (Maintainer) source;
         skill = supplier.getSkill().skill;
-        commission = supplier.getCommission().commission;
+        commission = supplier.getCommission().toString();
     }
 }
@@ -4,14 +4,17 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Commission;
+import seedu.address.model.person.DollarAmount;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Employment;
 import seedu.address.model.person.Maintainer;
@@ -33,6 +36,8 @@ class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
 
+    private static final Logger logger = LogsCenter.getLogger(JsonAdaptedPerson.class);
+
     private final String name;
     private final String phone;
     private final String email;
@@ -132,14 +137,15 @@ class JsonAdaptedPerson {
         final Set<Tag> modelTags = new HashSet<>(personTags);
 
         if (salary != null && employment != null) {
-            if (!Salary.isValidSalary(salary)) {
+            final String salaryValue = clampLegacyAmount(salary);
+            if (!Salary.isValidSalary(salaryValue)) {
                 throw new IllegalValueException(Salary.MESSAGE_CONSTRAINTS);
             }
             if (!Employment.isValidEmployment(employment)) {
                 throw new IllegalValueException(Employment.MESSAGE_CONSTRAINTS);
             }
-            final Salary modelSalary = new Salary(salary);
-            final Employment modelEmployment = new Employment(employment);
+            final Salary modelSalary = new Salary(salaryValue);
+            final Employment modelEmployment = Employment.of(employment);
             return new Staff(modelName, modelPhone, modelEmail, modelAddress, modelTags, modelSalary, modelEmployment);
         }
 
@@ -147,11 +153,12 @@ class JsonAdaptedPerson {
             if (!Product.isValidProduct(product)) {
                 throw new IllegalValueException(Product.MESSAGE_CONSTRAINTS);
             }
-            if (!Price.isValidPrice(price)) {
+            final String priceValue = clampLegacyAmount(price);
+            if (!Price.isValidPrice(priceValue)) {
                 throw new IllegalValueException(Price.MESSAGE_CONSTRAINTS);
             }
-            final Product modelProduct = new Product(product);
-            final Price modelPrice = new Price(price);
+            final Product modelProduct = Product.of(product);
+            final Price modelPrice = new Price(priceValue);
             return new Supplier(modelName, modelPhone, modelEmail, modelAddress, modelTags,
                     modelProduct, modelPrice);
         }
@@ -160,11 +167,12 @@ class JsonAdaptedPerson {
             if (!Skill.isValidSkill(skill)) {
                 throw new IllegalValueException(Skill.MESSAGE_CONSTRAINTS);
             }
-            if (!Commission.isValidCommission(commission)) {
+            final String commissionValue = clampLegacyAmount(commission);
+            if (!Commission.isValidCommission(commissionValue)) {
                 throw new IllegalValueException(Commission.MESSAGE_CONSTRAINTS);
             }
-            final Skill modelSkill = new Skill(skill);
-            final Commission modelCommission = new Commission(commission);
+            final Skill modelSkill = Skill.of(skill);
+            final Commission modelCommission = new Commission(commissionValue);
             return new Maintainer(modelName, modelPhone, modelEmail, modelAddress, modelTags,
                     modelSkill, modelCommission);
         }
@@ -172,4 +180,16 @@ class JsonAdaptedPerson {
         return new Person(modelName, modelPhone, modelEmail, modelAddress, modelTags);
     }
 
+    /**
+     * Returns {@code amount} with an amount too large to be stored lowered to the largest one that can be.
+     * Amounts were not bounded in earlier versions, so such amounts are read rather than failing the whole file.
+     */
+    private String clampLegacyAmount(String amount) {
+        String clamped = DollarAmount.clampToRange(amount);
+        if (!clamped.equals(amount)) {
+            logger.warning("Amount of " + name + " lowered from " + amount + " to " + clamped);
+        }
+        return clamped;
+    }
+
 }
@@ -19,7 +19,7 @@ class JsonAdaptedStaff extends JsonAdaptedPerson {
     public JsonAdaptedStaff(Person source) {
         super(source);
         Staff staff = (Staff) source;
-        salary = staff.getSalary().value;
+        salary = staff.getSalary().toString();
         employment = staff.getEmployment().employment;
     }
 }
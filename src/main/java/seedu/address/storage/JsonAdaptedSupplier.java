@@ -20,6 +20,6 @@ class JsonAdaptedSupplier extends JsonAdaptedPerson {
         super(source);
         Supplier supplier = (Supplier) source;
         product = supplier.getProduct().product;
-        price = supplier.getPrice().price;
+        price = supplier.getPrice().toString();
     }
 }
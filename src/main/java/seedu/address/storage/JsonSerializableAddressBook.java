@@ -1,7 +1,9 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -12,6 +14,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Maintainer;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Staff;
 import seedu.address.model.person.Supplier;
@@ -23,6 +26,8 @@ import seedu.address.model.person.Supplier;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_PERSON_DETAILS =
+            "\nPerson #%1$d (%2$s) has the same name as person #%3$d.";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
@@ -58,19 +63,32 @@ class JsonSerializableAddressBook {
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * Every duplicate person is reported together with its 1-based position in the persons list.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        List<Person> modelPersons = new ArrayList<>(persons.size());
+        Map<Name, Integer> firstPositions = new HashMap<>(persons.size() * 4 / 3 + 1);
+        StringBuilder duplicateDetails = new StringBuilder();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
             Person person = jsonAdaptedPerson.toModelType();
+            modelPersons.add(person);
 
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+            int position = modelPersons.size();
+            Integer firstPosition = firstPositions.putIfAbsent(person.getName(), position);
+            if (firstPosition != null) {
+                duplicateDetails.append(String.format(MESSAGE_DUPLICATE_PERSON_DETAILS,
+                        position, person.getName(), firstPosition));
             }
-            addressBook.addPerson(person);
         }
+
+        if (duplicateDetails.length() > 0) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON + duplicateDetails);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(modelPersons);
         return addressBook;
     }
 
@@ -74,7 +74,7 @@ public class PersonCard extends UiPart<Region> {
                 .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
         if (person instanceof Staff) {
             Staff staff = (Staff) person;
-            salary.setText(staff.getSalary().value);
+            salary.setText(staff.getSalary().toString());
             employment.setText(staff.getEmployment().employment);
             salary.setManaged(true);
             employment.setManaged(true);
@@ -83,7 +83,7 @@ public class PersonCard extends UiPart<Region> {
         } else if (person instanceof Supplier) {
             Supplier supplier = (Supplier) person;
             product.setText(supplier.getProduct().product);
-            price.setText(supplier.getPrice().price);
+            price.setText(supplier.getPrice().toString());
             product.setManaged(true);
             price.setManaged(true);
             product.setVisible(true);
@@ -91,7 +91,7 @@ public class PersonCard extends UiPart<Region> {
         } else if (person instanceof Maintainer) {
             Maintainer maintainer = (Maintainer) person;
             skill.setText(maintainer.getSkill().skill);
-            commission.setText(maintainer.getCommission().commission);
+            commission.setText(maintainer.getCommission().toString());
             skill.setManaged(true);
             commission.setManaged(true);
             skill.setVisible(true);
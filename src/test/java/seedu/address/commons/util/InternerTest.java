@@ -0,0 +1,35 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    @Test
+    public void intern_equalKeys_returnsSameInstance() {
+        AtomicInteger createdCount = new AtomicInteger();
+        Interner<StringBuilder> interner = new Interner<>(key -> {
+            createdCount.incrementAndGet();
+            return new StringBuilder(key);
+        });
+
+        StringBuilder first = interner.intern("value");
+        assertSame(first, interner.intern(new String("value")));
+        assertNotSame(first, interner.intern("other"));
+        assertEquals(2, createdCount.get());
+    }
+
+    @Test
+    public void intern_factoryThrows_addsNothing() {
+        Interner<Integer> interner = new Interner<>(Integer::valueOf);
+        assertThrows(NumberFormatException.class, () -> interner.intern("not a number"));
+        assertEquals(0, interner.size());
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+}
@@ -0,0 +1,135 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentHashMapTest {
+
+    @Test
+    public void plus_nullKeyOrValue_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentHashMap.empty().plus(null, "a"));
+        assertThrows(NullPointerException.class, () -> PersistentHashMap.empty().plus("a", null));
+    }
+
+    @Test
+    public void updates_leaveEarlierVersionsUnchanged() {
+        PersistentHashMap<String, Integer> original = PersistentHashMap.<String, Integer>empty().plus("a", 1);
+        PersistentHashMap<String, Integer> added = original.plus("b", 2);
+        PersistentHashMap<String, Integer> replaced = added.plus("a", 3);
+        PersistentHashMap<String, Integer> removed = replaced.minus("b");
+
+        assertEquals(1, original.size());
+        assertNull(original.get("b"));
+        assertEquals(1, added.get("a"));
+        assertEquals(3, replaced.get("a"));
+        assertEquals(2, replaced.size());
+        assertFalse(removed.containsKey("b"));
+        assertEquals(1, removed.size());
+    }
+
+    @Test
+    public void minus_absentKey_returnsSameMap() {
+        PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer>empty().plus("a", 1);
+        assertSame(map, map.minus("b"));
+        assertTrue(map.minus("a").isEmpty());
+    }
+
+    @Test
+    public void collidingKeys_keptApart() {
+        PersistentHashMap<CollidingKey, String> map = PersistentHashMap.empty();
+        for (int i = 0; i < 5; i++) {
+            map = map.plus(new CollidingKey(i), "value" + i);
+        }
+        map = map.plus(new CollidingKey(100, 1), "other");
+
+        assertEquals(6, map.size());
+        assertEquals("value3", map.get(new CollidingKey(3)));
+        map = map.minus(new CollidingKey(3)).minus(new CollidingKey(0));
+        assertNull(map.get(new CollidingKey(3)));
+        assertEquals("value4", map.get(new CollidingKey(4)));
+        assertEquals("other", map.get(new CollidingKey(100, 1)));
+        assertEquals(4, map.size());
+    }
+
+    @Test
+    public void randomUpdates_matchHashMap() {
+        Random random = new Random(11);
+        Map<CollidingKey, Integer> expected = new HashMap<>();
+        PersistentHashMap<CollidingKey, Integer> map = PersistentHashMap.empty();
+        List<PersistentHashMap<CollidingKey, Integer>> versions = new ArrayList<>();
+        List<Map<CollidingKey, Integer>> expectedVersions = new ArrayList<>();
+        Set<CollidingKey> usedKeys = new HashSet<>();
+
+        for (int step = 0; step < 5000; step++) {
+            // hashes that differ only in their high bits force deep tries, and few hashes force collisions
+            CollidingKey key = new CollidingKey(random.nextInt(400), random.nextInt(40) << 25 | random.nextInt(4));
+            usedKeys.add(key);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.minus(key);
+            } else {
+                expected.put(key, step);
+                map = map.plus(key, step);
+            }
+            if (step % 500 == 0) {
+                versions.add(map);
+                expectedVersions.add(new HashMap<>(expected));
+            }
+        }
+
+        assertMatches(expected, map, usedKeys);
+        for (int i = 0; i < versions.size(); i++) {
+            assertMatches(expectedVersions.get(i), versions.get(i), usedKeys);
+        }
+    }
+
+    private static void assertMatches(Map<CollidingKey, Integer> expected,
+            PersistentHashMap<CollidingKey, Integer> map, Set<CollidingKey> keys) {
+        assertEquals(expected.size(), map.size());
+        for (CollidingKey key : keys) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+    }
+
+    /**
+     * A key whose hash code can be chosen independently of its identity.
+     */
+    private static class CollidingKey {
+        private final int id;
+        private final int hash;
+
+        CollidingKey(int id) {
+            this(id, 0);
+        }
+
+        CollidingKey(int id, int hash) {
+            this.id = id;
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof CollidingKey && ((CollidingKey) other).id == id
+                    && ((CollidingKey) other).hash == hash;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
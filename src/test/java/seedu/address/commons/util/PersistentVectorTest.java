@@ -0,0 +1,109 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentVectorTest {
+
+    @Test
+    public void empty() {
+        PersistentVector<String> vector = PersistentVector.empty();
+        assertTrue(vector.isEmpty());
+        assertEquals(Collections.emptyList(), vector.asList());
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.minus(0));
+    }
+
+    @Test
+    public void of_buildsVectorInOrder() {
+        List<Integer> elements = Arrays.asList(5, 3, 8, 1, 9, 2);
+        PersistentVector<Integer> vector = PersistentVector.of(elements);
+        assertEquals(elements, vector.asList());
+        assertEquals(8, vector.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(6));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.plus(7, 0));
+    }
+
+    @Test
+    public void updates_leaveEarlierVersionsUnchanged() {
+        PersistentVector<String> original = PersistentVector.of(Arrays.asList("a", "b", "c"));
+        PersistentVector<String> replaced = original.with(1, "x");
+        PersistentVector<String> inserted = original.plus(0, "y");
+        PersistentVector<String> removed = original.minus(2);
+
+        assertEquals(Arrays.asList("a", "b", "c"), original.asList());
+        assertEquals(Arrays.asList("a", "x", "c"), replaced.asList());
+        assertEquals(Arrays.asList("y", "a", "b", "c"), inserted.asList());
+        assertEquals(Arrays.asList("a", "b"), removed.asList());
+    }
+
+    @Test
+    public void randomUpdates_matchArrayList() {
+        Random random = new Random(7);
+        List<Integer> expected = new ArrayList<>();
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        List<PersistentVector<Integer>> versions = new ArrayList<>();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+
+        for (int step = 0; step < 2000; step++) {
+            int operation = random.nextInt(4);
+            if (operation <= 1 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, step);
+                vector = vector.plus(index, step);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                vector = vector.minus(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -step);
+                vector = vector.with(index, -step);
+            }
+            if (step % 100 == 0) {
+                versions.add(vector);
+                expectedVersions.add(new ArrayList<>(expected));
+            }
+        }
+
+        assertEquals(expected, vector.asList());
+        assertEquals(expected.size(), vector.size());
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(expectedVersions.get(i), versions.get(i).asList());
+        }
+    }
+
+    @Test
+    public void binarySearch_sortedVector_matchesCollectionsBinarySearch() {
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            elements.add(i * 2);
+        }
+        PersistentVector<Integer> vector = PersistentVector.of(elements);
+        for (int key = -1; key <= 200; key++) {
+            assertEquals(Collections.binarySearch(elements, key, Comparator.naturalOrder()),
+                    vector.binarySearch(key, Comparator.naturalOrder()));
+        }
+        assertEquals(-1, PersistentVector.<Integer>empty().binarySearch(0, Comparator.naturalOrder()));
+    }
+
+    @Test
+    public void equals() {
+        PersistentVector<Integer> vector = PersistentVector.of(Arrays.asList(1, 2));
+
+        assertTrue(vector.equals(PersistentVector.empty().plus(1).plus(2)));
+        assertTrue(vector.equals(vector));
+        assertTrue(!vector.equals(null));
+        assertTrue(!vector.equals(PersistentVector.of(Arrays.asList(2, 1))));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -123,6 +124,29 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for boundedEditDistance --------------------------------------
+
+    @Test
+    public void boundedEditDistance_negativeBound_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, "Bound parameter cannot be negative", ()
+            -> StringUtil.boundedEditDistance("abc", "abc", -1));
+    }
+
+    @Test
+    public void boundedEditDistance_validInputs_correctResult() {
+        assertEquals(0, StringUtil.boundedEditDistance("", "", 0));
+        assertEquals(0, StringUtil.boundedEditDistance("abc", "abc", 2));
+        assertEquals(3, StringUtil.boundedEditDistance("", "abc", 3));
+        assertEquals(3, StringUtil.boundedEditDistance("kitten", "sitting", 3));
+        assertEquals(2, StringUtil.boundedEditDistance("alice", "alicia", 5));
+        assertEquals(1, StringUtil.boundedEditDistance("abc", "Abc", 1)); // case is significant
+
+        // distance beyond the bound
+        assertEquals(2, StringUtil.boundedEditDistance("kitten", "sitting", 1));
+        assertEquals(1, StringUtil.boundedEditDistance("abc", "abcd", 0));
+        assertEquals(3, StringUtil.boundedEditDistance("abcdef", "ghijkl", 2));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
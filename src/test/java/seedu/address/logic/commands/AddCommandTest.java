@@ -10,6 +10,8 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -19,11 +21,20 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
+import seedu.address.model.PageCursor;
+import seedu.address.model.PersonMutation;
+import seedu.address.model.PersonPage;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.SortField;
+import seedu.address.model.analytics.Aggregates;
+import seedu.address.model.analytics.ColumnarSnapshot;
+import seedu.address.model.index.AmountField;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.query.QueryPlan;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -163,6 +174,81 @@ public class AddCommandTest {
         public Person findByName(Name targetName) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public List<Person> findByNamePrefix(String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findTopByAmount(AmountField field, int limit, boolean highestFirst) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void applyBatch(List<PersonMutation> mutations) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AddressBookSnapshot getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ColumnarSnapshot getColumnarSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public <T> T readAddressBook(Function<? super AddressBookSnapshot, ? extends T> reader) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void sortFilteredPersonList(SortField field) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Aggregates getAggregates() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PersonPage getFilteredPersonPage(PageCursor cursor, int pageSize) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public QueryPlan explainQuery(Predicate<Person> predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.TagsMatchPredicate;
+import seedu.address.model.query.AndPredicate;
+import seedu.address.model.tag.Tag;
+
+public class ExplainCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        NameContainsKeywordsPredicate firstPredicate = new NameContainsKeywordsPredicate(List.of("first"));
+        NameContainsKeywordsPredicate secondPredicate = new NameContainsKeywordsPredicate(List.of("second"));
+        ExplainCommand explainFirstCommand = new ExplainCommand(firstPredicate);
+
+        // same object -> returns true
+        assertTrue(explainFirstCommand.equals(explainFirstCommand));
+
+        // same values -> returns true
+        assertTrue(explainFirstCommand.equals(new ExplainCommand(firstPredicate)));
+
+        // different types -> returns false
+        assertFalse(explainFirstCommand.equals(new FindCommand(firstPredicate)));
+
+        // null -> returns false
+        assertFalse(explainFirstCommand.equals(null));
+
+        // different predicate -> returns false
+        assertFalse(explainFirstCommand.equals(new ExplainCommand(secondPredicate)));
+    }
+
+    @Test
+    public void execute_compoundSearch_showsPlanWithoutFiltering() {
+        AndPredicate predicate = new AndPredicate(List.of(
+                new TagsMatchPredicate(Set.of(new Tag("friends")), Collections.emptySet()),
+                new NameContainsKeywordsPredicate(List.of("Meier"))));
+        String expectedMessage = expectedModel.explainQuery(predicate).explain();
+        assertCommandSuccess(new ExplainCommand(predicate), model, expectedMessage, expectedModel);
+        assertEquals(expectedModel.getFilteredPersonList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("keyword"));
+        ExplainCommand explainCommand = new ExplainCommand(predicate);
+        String expected = ExplainCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        assertEquals(expected, explainCommand.toString());
+    }
+}
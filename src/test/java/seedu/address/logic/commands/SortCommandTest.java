@@ -0,0 +1,68 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.SortField;
+import seedu.address.model.UserPrefs;
+
+public class SortCommandTest {
+
+    private final AddressBook addressBook = new AddressBook();
+
+    {
+        addressBook.setPersons(List.of(CARL, ALICE, BENSON));
+    }
+
+    private final Model model = new ModelManager(addressBook, new UserPrefs());
+    private final Model expectedModel = new ModelManager(addressBook, new UserPrefs());
+
+    @Test
+    public void execute_sortByName_success() {
+        expectedModel.sortFilteredPersonList(SortField.NAME);
+        assertCommandSuccess(new SortCommand(SortField.NAME), model,
+                String.format(SortCommand.MESSAGE_SUCCESS, "name"), expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_unsorted_restoresAddedOrder() {
+        model.sortFilteredPersonList(SortField.NAME);
+        assertCommandSuccess(new SortCommand(null), model, SortCommand.MESSAGE_UNSORTED, expectedModel);
+        assertEquals(Arrays.asList(CARL, ALICE, BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void equals() {
+        SortCommand sortByName = new SortCommand(SortField.NAME);
+
+        assertTrue(sortByName.equals(sortByName));
+        assertTrue(sortByName.equals(new SortCommand(SortField.NAME)));
+        assertTrue(new SortCommand(null).equals(new SortCommand(null)));
+
+        assertFalse(sortByName.equals(null));
+        assertFalse(sortByName.equals(1));
+        assertFalse(sortByName.equals(new SortCommand(SortField.SALARY)));
+        assertFalse(sortByName.equals(new SortCommand(null)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        SortCommand sortCommand = new SortCommand(SortField.PRICE);
+        String expected = SortCommand.class.getCanonicalName() + "{field=" + SortField.PRICE + "}";
+        assertEquals(expected, sortCommand.toString());
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSONMAINTAINER;
+import static seedu.address.testutil.TypicalPersons.BOBSTAFF;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+
+    @Test
+    public void execute_emptyAddressBook_showsZeroes() {
+        Model model = new ModelManager();
+        String expectedMessage = String.format(StatsCommand.MESSAGE_SUCCESS, 0, 0, 0, 0, 0, "$0/hr",
+                StatsCommand.MESSAGE_NONE, StatsCommand.MESSAGE_NONE);
+        assertCommandSuccess(new StatsCommand(), model, expectedMessage, new ModelManager());
+    }
+
+    @Test
+    public void execute_personsOfEachRole_showsTotals() {
+        Model model = new ModelManager();
+        model.addPerson(ALICE);
+        model.addPerson(BOBSTAFF);
+        model.addPerson(BENSONMAINTAINER);
+        Model expectedModel = new ModelManager(model.getAddressBook(), model.getUserPrefs());
+
+        String expectedMessage = String.format(StatsCommand.MESSAGE_SUCCESS, 3, 1, 0, 1, 1, "$50/hr",
+                "$50/hr", "maintainer 1, other 1, staff 1");
+        assertCommandSuccess(new StatsCommand(), model, expectedMessage, expectedModel);
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExplainCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.TagsMatchPredicate;
+import seedu.address.model.query.AndPredicate;
+import seedu.address.model.tag.Tag;
+
+public class ExplainCommandParserTest {
+
+    private ExplainCommandParser parser = new ExplainCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExplainCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_findArgs_returnsExplainCommand() {
+        assertParseSuccess(parser, " Alice", new ExplainCommand(
+                new NameContainsKeywordsPredicate(Collections.singletonList("Alice"))));
+        assertParseSuccess(parser, " Alice t/friends", new ExplainCommand(new AndPredicate(List.of(
+                new NameContainsKeywordsPredicate(Collections.singletonList("Alice")),
+                new TagsMatchPredicate(Set.of(new Tag("friends")), Collections.emptySet())))));
+    }
+
+    @Test
+    public void parse_invalidFindArgs_throwsParseException() {
+        assertParseFailure(parser, " ; skill : ", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindCommand.MESSAGE_USAGE));
+    }
+}
@@ -1,15 +1,29 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SALARY;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.index.AmountField;
+import seedu.address.model.index.TextField;
+import seedu.address.model.person.AmountInRangePredicate;
+import seedu.address.model.person.FieldContainsKeywordsPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameSimilarToKeywordsPredicate;
+import seedu.address.model.person.NameStartsWithKeywordsPredicate;
+import seedu.address.model.person.TagsMatchPredicate;
+import seedu.address.model.query.AndPredicate;
+import seedu.address.model.tag.Tag;
 
 public class FindCommandParserTest {
 
@@ -31,4 +45,134 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_validPrefixArgs_returnsFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new NameStartsWithKeywordsPredicate(Arrays.asList("Ali", "b")));
+        assertParseSuccess(parser, " Ali*  \t b* ", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidPrefixArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+
+        // keywords without the marker mixed with prefixes
+        assertParseFailure(parser, "Ali* Bob", expectedMessage);
+
+        // empty prefix
+        assertParseFailure(parser, "*", expectedMessage);
+
+        // marker inside a keyword
+        assertParseFailure(parser, "A*li*", expectedMessage);
+    }
+
+    @Test
+    public void parse_validFuzzyArgs_returnsFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new NameSimilarToKeywordsPredicate(Arrays.asList("Alise", "Bbo")));
+        assertParseSuccess(parser, " Alise~ \n Bbo~", expectedFindCommand);
+
+        // fuzzy and prefix markers mixed
+        assertParseFailure(parser, "Alise~ Bo*", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validRangeArgs_returnsFindCommand() {
+        assertParseSuccess(parser, " ; salary : 20-50",
+                new FindCommand(new AmountInRangePredicate(AmountField.SALARY, 20, 50)));
+        assertParseSuccess(parser, " ; price : $20 -",
+                new FindCommand(new AmountInRangePredicate(AmountField.PRICE, 20, Long.MAX_VALUE)));
+        assertParseSuccess(parser, " ; commission : -$30",
+                new FindCommand(new AmountInRangePredicate(AmountField.COMMISSION, 0, 30)));
+
+        // single amount
+        assertParseSuccess(parser, " ; salary : 25",
+                new FindCommand(new AmountInRangePredicate(AmountField.SALARY, 25, 25)));
+    }
+
+    @Test
+    public void parse_invalidRangeArgs_throwsParseException() {
+        assertParseFailure(parser, " ; salary : -", FindCommandParser.MESSAGE_INVALID_RANGE);
+        assertParseFailure(parser, " ; salary : 1-2-3", FindCommandParser.MESSAGE_INVALID_RANGE);
+        assertParseFailure(parser, " ; salary : ten", FindCommandParser.MESSAGE_INVALID_RANGE);
+        assertParseFailure(parser, " ; salary : 99999999999999999999-", FindCommandParser.MESSAGE_INVALID_RANGE);
+    }
+
+    @Test
+    public void parse_validTagArgs_returnsFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new TagsMatchPredicate(
+                Set.of(new Tag("friends"), new Tag("colleagues")), Set.of(new Tag("owesMoney"))));
+        assertParseSuccess(parser, " t/friends t/!owesMoney t/colleagues", expectedFindCommand);
+
+        // excluded tags only
+        expectedFindCommand = new FindCommand(new TagsMatchPredicate(Collections.emptySet(),
+                Set.of(new Tag("owesMoney"))));
+        assertParseSuccess(parser, " t/!owesMoney", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_validFieldArgs_returnsFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(
+                new FieldContainsKeywordsPredicate(TextField.PRODUCT, Arrays.asList("dog", "food")));
+        assertParseSuccess(parser, " ; product :  dog \t food ", expectedFindCommand);
+
+        expectedFindCommand = new FindCommand(
+                new FieldContainsKeywordsPredicate(TextField.ADDRESS, Collections.singletonList("Clementi")));
+        assertParseSuccess(parser, " ; address : Clementi", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidFieldArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+
+        // no keywords
+        assertParseFailure(parser, " ; skill : ", expectedMessage);
+
+        // no keywords for one of several fields
+        assertParseFailure(parser, " ; skill : groom ; product : ", expectedMessage);
+    }
+
+    @Test
+    public void parse_multipleCriteria_returnsFindCommandWithAllConditions() {
+        // more than one field, listed in a fixed order
+        FindCommand expectedFindCommand = new FindCommand(new AndPredicate(List.of(
+                new FieldContainsKeywordsPredicate(TextField.PRODUCT, Collections.singletonList("food")),
+                new FieldContainsKeywordsPredicate(TextField.SKILL, Collections.singletonList("groom")))));
+        assertParseSuccess(parser, " ; skill : groom ; product : food", expectedFindCommand);
+
+        // field and name keywords
+        expectedFindCommand = new FindCommand(new AndPredicate(List.of(
+                new NameContainsKeywordsPredicate(Collections.singletonList("Alice")),
+                new FieldContainsKeywordsPredicate(TextField.ADDRESS, Collections.singletonList("Clementi")))));
+        assertParseSuccess(parser, "Alice ; address : Clementi", expectedFindCommand);
+
+        // name prefixes, tags and a range
+        expectedFindCommand = new FindCommand(new AndPredicate(List.of(
+                new NameStartsWithKeywordsPredicate(Collections.singletonList("ali")),
+                new TagsMatchPredicate(Set.of(new Tag("friends")), Collections.emptySet()),
+                new AmountInRangePredicate(AmountField.SALARY, 20, Long.MAX_VALUE))));
+        assertParseSuccess(parser, "ali* t/friends ; salary : 20-", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_keywordsAndTags_returnsFindCommandWithBothConditions() {
+        FindCommand expectedFindCommand = new FindCommand(new AndPredicate(List.of(
+                new NameContainsKeywordsPredicate(Collections.singletonList("Alice")),
+                new TagsMatchPredicate(Set.of(new Tag("friends")), Collections.emptySet()))));
+        assertParseSuccess(parser, "Alice t/friends", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_duplicateField_throwsParseException() {
+        assertParseFailure(parser, " ; salary : 20- ; salary : -50",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_SALARY));
+    }
+
+    @Test
+    public void parse_invalidTag_throwsParseException() {
+        assertParseFailure(parser, " t/!", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " t/friends*", Tag.MESSAGE_CONSTRAINTS);
+    }
+
 }
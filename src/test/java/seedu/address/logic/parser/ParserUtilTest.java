@@ -177,14 +177,14 @@ public class ParserUtilTest {
 
     @Test
     public void parseEmployment_validValueWithoutWhitespace_returnsEmployment() throws Exception {
-        Employment expectedEmployment = new Employment(VALID_EMPLOYMENT);
+        Employment expectedEmployment = Employment.of(VALID_EMPLOYMENT);
         assertEquals(expectedEmployment, ParserUtil.parseEmployment(VALID_EMPLOYMENT));
     }
 
     @Test
     public void parseEmployment_validValueWithWhitespace_returnsTrimmedEmployment() throws Exception {
         String employmentWithWhitespace = WHITESPACE + VALID_EMPLOYMENT + WHITESPACE;
-        Employment expectedEmployment = new Employment(VALID_EMPLOYMENT);
+        Employment expectedEmployment = Employment.of(VALID_EMPLOYMENT);
         assertEquals(expectedEmployment, ParserUtil.parseEmployment(employmentWithWhitespace));
     }
 
@@ -1,25 +1,39 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.address.model.analytics.Aggregates;
+import seedu.address.model.analytics.ColumnarSnapshot;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.TagsMatchPredicate;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -78,6 +92,158 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void applyBatch_validMutations_appliesAllWithOneNotification() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        Person editedBenson = new PersonBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build();
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) changes::add);
+
+        addressBook.applyBatch(Arrays.asList(
+                PersonMutation.add(CARL),
+                PersonMutation.set(BENSON, editedBenson),
+                PersonMutation.remove(ALICE)));
+
+        assertEquals(Arrays.asList(editedBenson, CARL), addressBook.getPersonList());
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void applyBatch_mutationsDependOnEarlierOnes_success() {
+        Person editedCarl = new PersonBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.applyBatch(Arrays.asList(
+                PersonMutation.add(CARL),
+                PersonMutation.set(CARL, editedCarl),
+                PersonMutation.add(ALICE),
+                PersonMutation.remove(ALICE)));
+        assertEquals(Collections.singletonList(editedCarl), addressBook.getPersonList());
+    }
+
+    @Test
+    public void applyBatch_invalidMutation_appliesNone() {
+        addressBook.addPerson(ALICE);
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) changes::add);
+
+        // duplicate of a person added earlier in the batch
+        assertThrows(DuplicatePersonException.class, () -> addressBook.applyBatch(Arrays.asList(
+                PersonMutation.add(BENSON), PersonMutation.add(BENSON))));
+
+        // target removed earlier in the batch
+        assertThrows(PersonNotFoundException.class, () -> addressBook.applyBatch(Arrays.asList(
+                PersonMutation.remove(ALICE), PersonMutation.set(ALICE, CARL))));
+
+        // target with different fields
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> addressBook.applyBatch(Collections.singletonList(
+                PersonMutation.remove(editedAlice))));
+
+        assertEquals(Collections.singletonList(ALICE), addressBook.getPersonList());
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void snapshot_laterChanges_notVisibleInSnapshot() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        AddressBookSnapshot snapshot = addressBook.snapshot();
+
+        addressBook.removePerson(ALICE);
+        addressBook.setPerson(BENSON, CARL);
+
+        assertEquals(Arrays.asList(ALICE, BENSON), snapshot.getPersonList());
+        assertEquals(ALICE, snapshot.getPersonByName(ALICE.getName()));
+        assertNull(snapshot.getPersonByName(CARL.getName()));
+        assertEquals(Collections.singletonList(CARL), addressBook.getPersonList());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+    }
+
+    @Test
+    public void resetData_fromSnapshot_restoresSnapshot() {
+        addressBook.addPerson(ALICE);
+        AddressBookSnapshot snapshot = addressBook.snapshot();
+        addressBook.addPerson(BENSON);
+
+        addressBook.resetData(snapshot);
+        assertEquals(Collections.singletonList(ALICE), addressBook.getPersonList());
+        assertTrue(addressBook.hasPerson(ALICE));
+        assertFalse(addressBook.hasPerson(BENSON));
+
+        // the restored address book changes independently of the snapshot
+        addressBook.addPerson(CARL);
+        assertEquals(Collections.singletonList(ALICE), snapshot.getPersonList());
+        assertEquals(new AddressBook(snapshot).snapshot(), snapshot);
+    }
+
+    @Test
+    public void getColumnarSnapshot_reusedUntilChange() {
+        addressBook.addPerson(ALICE);
+        ColumnarSnapshot columnarSnapshot = addressBook.getColumnarSnapshot();
+        assertSame(columnarSnapshot, addressBook.getColumnarSnapshot());
+
+        addressBook.addPerson(BENSON);
+        assertNotSame(columnarSnapshot, addressBook.getColumnarSnapshot());
+        assertEquals(1, columnarSnapshot.size());
+        assertEquals(2, addressBook.getColumnarSnapshot().size());
+    }
+
+    @Test
+    public void getColumnarSnapshot_ofSnapshot_buildsVersionOfSnapshot() {
+        addressBook.addPerson(ALICE);
+        AddressBookSnapshot snapshot = addressBook.snapshot();
+        addressBook.addPerson(BENSON);
+
+        ColumnarSnapshot columnarSnapshot = addressBook.getColumnarSnapshot(snapshot);
+        assertEquals(1, columnarSnapshot.size());
+        assertSame(columnarSnapshot, addressBook.getColumnarSnapshot(snapshot));
+        assertEquals(2, addressBook.getColumnarSnapshot().size());
+    }
+
+    @Test
+    public void getAggregates_tracksEveryChange() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        addressBook.setPerson(BENSON, CARL);
+        addressBook.removePerson(ALICE);
+        assertEquals(aggregatesOf(CARL), addressBook.getAggregates());
+
+        addressBook.applyBatch(Arrays.asList(PersonMutation.add(ALICE), PersonMutation.remove(CARL)));
+        assertEquals(aggregatesOf(ALICE), addressBook.getAggregates());
+
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(aggregatesOf(getTypicalAddressBook().getPersonList().toArray(new Person[0])),
+                addressBook.getAggregates());
+    }
+
+    @Test
+    public void removePersonAndSetPerson_repeatedWords_success() {
+        Person tanTan = new PersonBuilder().withName("Tan Tan").withAddress("Blk 1 Blk 2").build();
+        addressBook.addPerson(tanTan);
+        addressBook.addPerson(ALICE);
+
+        addressBook.setPerson(tanTan, BENSON);
+        addressBook.setPerson(BENSON, tanTan);
+        addressBook.removePerson(tanTan);
+        assertEquals(Collections.singletonList(ALICE), addressBook.getPersonList());
+        assertFalse(addressBook.hasPerson(tanTan));
+    }
+
+    @Test
+    public void resolve_tagPredicate_returnsPositionsInListOrder() {
+        Person alice = new PersonBuilder(ALICE).withExactTags("friends").build();
+        Person benson = new PersonBuilder(BENSON).withExactTags("colleagues").build();
+        Person carl = new PersonBuilder(CARL).withExactTags("friends").build();
+        addressBook.setPersons(Arrays.asList(carl, benson, alice));
+        TagsMatchPredicate friends = new TagsMatchPredicate(Set.of(new Tag("friends")), Collections.emptySet());
+        assertArrayEquals(new int[] {0, 2}, addressBook.resolve(friends));
+
+        // positions follow later changes to the list
+        addressBook.removePerson(carl);
+        addressBook.addPerson(carl);
+        assertArrayEquals(new int[] {1, 2}, addressBook.resolve(friends));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -89,6 +255,12 @@ public class AddressBookTest {
         assertEquals(expected, addressBook.toString());
     }
 
+    private static Aggregates aggregatesOf(Person... persons) {
+        Aggregates aggregates = new Aggregates();
+        aggregates.reset(Arrays.asList(persons));
+        return aggregates;
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
@@ -2,21 +2,42 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.index.AmountField;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Staff;
+import seedu.address.model.person.TagsMatchPredicate;
+import seedu.address.model.query.AndPredicate;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.StaffBuilder;
 
 public class ModelManagerTest {
 
@@ -88,11 +109,330 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void findByName_nullName_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.findByName(null));
+    }
+
+    @Test
+    public void findByName_personNotInAddressBook_returnsNull() {
+        assertNull(modelManager.findByName(ALICE.getName()));
+    }
+
+    @Test
+    public void findByName_personInAddressBook_returnsPerson() {
+        modelManager.addPerson(ALICE);
+        assertEquals(ALICE, modelManager.findByName(ALICE.getName()));
+        assertEquals(ALICE, modelManager.findByName(new Name(ALICE.getName().fullName.toUpperCase())));
+    }
+
+    @Test
+    public void findByName_personFilteredOut_returnsNull() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Benson")));
+        assertNull(modelManager.findByName(ALICE.getName()));
+        assertEquals(BENSON, modelManager.findByName(BENSON.getName()));
+    }
+
+    @Test
+    public void findByName_deletedPerson_returnsNull() {
+        modelManager.addPerson(ALICE);
+        modelManager.deletePerson(ALICE);
+        assertNull(modelManager.findByName(ALICE.getName()));
+    }
+
+    @Test
+    public void applyBatch_addsPersons_showsAllPersons() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Benson")));
+
+        modelManager.applyBatch(Arrays.asList(PersonMutation.add(CARL), PersonMutation.remove(ALICE)));
+        assertEquals(Arrays.asList(BENSON, CARL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void applyBatch_removesPersons_keepsFilter() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Benson", "Carl")));
+
+        modelManager.applyBatch(Arrays.asList(PersonMutation.remove(ALICE), PersonMutation.remove(BENSON)));
+        assertEquals(Collections.singletonList(CARL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_repeatedQuery_reusesCachedResult() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        AtomicInteger testCount = new AtomicInteger();
+        Predicate<Person> isBenson = person -> {
+            testCount.incrementAndGet();
+            return person.equals(BENSON);
+        };
+        modelManager.updateFilteredPersonList(isBenson);
+        assertEquals(3, testCount.get());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.updateFilteredPersonList(isBenson);
+        assertEquals(Collections.singletonList(BENSON), modelManager.getFilteredPersonList());
+        assertEquals(3, testCount.get());
+
+        // a change to the persons invalidates the cached result
+        modelManager.addPerson(DANIEL);
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        testCount.set(0);
+        modelManager.updateFilteredPersonList(isBenson);
+        assertEquals(Collections.singletonList(BENSON), modelManager.getFilteredPersonList());
+        assertEquals(4, testCount.get());
+    }
+
+    @Test
+    public void updateFilteredPersonList_equivalentCompoundQuery_reusesCachedResult() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        AtomicInteger testCount = new AtomicInteger();
+        Predicate<Person> isBenson = person -> {
+            testCount.incrementAndGet();
+            return person.equals(BENSON);
+        };
+        NameContainsKeywordsPredicate meier = new NameContainsKeywordsPredicate(Collections.singletonList("Meier"));
+        modelManager.updateFilteredPersonList(new AndPredicate(Arrays.asList(isBenson, meier)));
+        int firstTestCount = testCount.get();
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.updateFilteredPersonList(new AndPredicate(Arrays.asList(meier,
+                new AndPredicate(Collections.singletonList(isBenson)))));
+        assertEquals(Collections.singletonList(BENSON), modelManager.getFilteredPersonList());
+        assertEquals(firstTestCount, testCount.get());
+    }
+
+    @Test
+    public void findByNamePrefix_returnsTopMatchesInWordOrder() {
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        modelManager.addPerson(DANIEL);
+
+        // case-insensitive match on any name word
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.findByNamePrefix("ME", 5));
+
+        // "carl" comes before "daniel" alphabetically
+        assertEquals(Arrays.asList(CARL, DANIEL), modelManager.findByNamePrefix("", 5).subList(1, 3));
+        assertEquals(Collections.singletonList(BENSON), modelManager.findByNamePrefix("", 1));
+        assertEquals(Collections.emptyList(), modelManager.findByNamePrefix("xyz", 5));
+    }
+
+    @Test
+    public void findTopByAmount_returnsPersonsInAmountOrder() {
+        Staff cheapStaff = new StaffBuilder().withName("Cheap").withSalary("$10/hr").build();
+        Staff dearStaff = new StaffBuilder().withName("Dear").withSalary("$90/hr").build();
+        modelManager.addPerson(cheapStaff);
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(dearStaff);
+
+        assertEquals(Arrays.asList(dearStaff, cheapStaff), modelManager.findTopByAmount(AmountField.SALARY, 5, true));
+        assertEquals(Collections.singletonList(cheapStaff),
+                modelManager.findTopByAmount(AmountField.SALARY, 1, false));
+        assertEquals(Collections.emptyList(), modelManager.findTopByAmount(AmountField.PRICE, 5, true));
+    }
+
+    @Test
+    public void readAddressBook_readsSnapshot() {
+        modelManager.addPerson(ALICE);
+        assertEquals(Collections.singletonList(ALICE),
+                modelManager.readAddressBook(ReadOnlyAddressBook::getPersonList));
+        assertThrows(NullPointerException.class, () -> modelManager.readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_concurrentChanges_readsConsistentSnapshots() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Long> reads = executor.submit(() -> {
+                long lastVersion = -1;
+                for (int i = 0; i < 2000; i++) {
+                    AddressBookSnapshot snapshot = modelManager.getAddressBookSnapshot();
+                    // every person in a snapshot can be found in it by name
+                    for (Person person : snapshot.getPersonList()) {
+                        assertEquals(person, snapshot.getPersonByName(person.getName()));
+                    }
+                    assertTrue(snapshot.getVersion() >= lastVersion);
+                    lastVersion = snapshot.getVersion();
+                }
+                return lastVersion;
+            });
+
+            for (int i = 0; i < 500; i++) {
+                Person person = new PersonBuilder().withName("Person " + i).build();
+                modelManager.addPerson(person);
+                if (i % 2 == 0) {
+                    modelManager.deletePerson(person);
+                }
+            }
+            reads.get();
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(250, modelManager.getAddressBookSnapshot().getPersonList().size());
+    }
+
+    @Test
+    public void sortFilteredPersonList_byAmount_keepsSortedAfterEdits() {
+        Staff cheap = new StaffBuilder().withName("Cheap").withSalary("$10/hr").build();
+        Staff dear = new StaffBuilder().withName("Dear").withSalary("$30/hr").build();
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(dear);
+        modelManager.addPerson(cheap);
+
+        modelManager.sortFilteredPersonList(SortField.SALARY);
+        assertEquals(Arrays.asList(cheap, dear, ALICE), modelManager.getFilteredPersonList());
+
+        // an edited person moves to its new position
+        Staff dearest = new StaffBuilder(dear).withSalary("$5/hr").build();
+        modelManager.setPerson(dear, dearest);
+        assertEquals(Arrays.asList(dearest, cheap, ALICE), modelManager.getFilteredPersonList());
+
+        // added persons are inserted in order, and the filter still applies
+        Staff middle = new StaffBuilder().withName("Middle").withSalary("$7/hr").build();
+        modelManager.addPerson(middle);
+        modelManager.updateFilteredPersonList(person -> person instanceof Staff);
+        assertEquals(Arrays.asList(dearest, middle, cheap), modelManager.getFilteredPersonList());
+
+        modelManager.sortFilteredPersonList(null);
+        assertEquals(Arrays.asList(dearest, cheap, middle), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void sortFilteredPersonList_byName_ignoresCase() {
+        Person lowerCase = new PersonBuilder().withName("aaron").build();
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(lowerCase);
+
+        modelManager.sortFilteredPersonList(SortField.NAME);
+        assertEquals(Arrays.asList(lowerCase, ALICE, BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(ALICE);
+        assertEquals(Arrays.asList(lowerCase, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void getFilteredPersonPage_pagesThroughList() {
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).withPerson(CARL)
+                .withPerson(DANIEL).build());
+
+        PersonPage firstPage = modelManager.getFilteredPersonPage(PageCursor.START, 3);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), firstPage.getPersons());
+        PersonPage lastPage = modelManager.getFilteredPersonPage(firstPage.getNextCursor().get(), 3);
+        assertEquals(Collections.singletonList(DANIEL), lastPage.getPersons());
+        assertTrue(lastPage.getNextCursor().isEmpty());
+
+        // a page that ends at the last person has no next page
+        assertTrue(modelManager.getFilteredPersonPage(PageCursor.START, 4).getNextCursor().isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> modelManager.getFilteredPersonPage(PageCursor.START, 0));
+    }
+
+    @Test
+    public void getFilteredPersonPage_largestPageSize_returnsRestOfList() {
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).withPerson(CARL)
+                .build());
+
+        PageCursor cursor = modelManager.getFilteredPersonPage(PageCursor.START, 1).getNextCursor().get();
+        PersonPage page = modelManager.getFilteredPersonPage(cursor, Integer.MAX_VALUE);
+        assertEquals(Arrays.asList(BENSON, CARL), page.getPersons());
+        assertTrue(page.getNextCursor().isEmpty());
+    }
+
+    @Test
+    public void getFilteredPersonPage_changesBeforeAnchor_continuesAfterAnchor() {
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).withPerson(CARL)
+                .withPerson(DANIEL).build());
+        PageCursor cursor = modelManager.getFilteredPersonPage(PageCursor.START, 2).getNextCursor().get();
+
+        // an offset would now skip CARL
+        modelManager.deletePerson(ALICE);
+        assertEquals(Arrays.asList(CARL, DANIEL), modelManager.getFilteredPersonPage(cursor, 2).getPersons());
+
+        // the anchor itself is gone, so the page continues from where it was
+        modelManager.deletePerson(BENSON);
+        assertEquals(Arrays.asList(DANIEL), modelManager.getFilteredPersonPage(cursor, 2).getPersons());
+    }
+
+    @Test
+    public void getFilteredPersonPage_sortedList_continuesAfterRemovedAnchor() {
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(DANIEL).withPerson(CARL).withPerson(BENSON)
+                .withPerson(ALICE).build());
+        modelManager.sortFilteredPersonList(SortField.NAME);
+        PageCursor cursor = modelManager.getFilteredPersonPage(PageCursor.START, 2).getNextCursor().get();
+
+        modelManager.deletePerson(BENSON);
+        modelManager.deletePerson(ALICE);
+        assertEquals(Arrays.asList(CARL, DANIEL), modelManager.getFilteredPersonPage(cursor, 2).getPersons());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPersonList_indexedPredicate_tracksLaterChanges() {
+        Person alice = new PersonBuilder(ALICE).withExactTags("friends").build();
+        Person benson = new PersonBuilder(BENSON).withExactTags("friends", "owesMoney").build();
+        Person carl = new PersonBuilder(CARL).withExactTags("colleagues").build();
+        modelManager.addPerson(alice);
+        modelManager.addPerson(benson);
+        modelManager.addPerson(carl);
+
+        modelManager.updateFilteredPersonList(
+                new TagsMatchPredicate(Set.of(new Tag("friends")), Set.of(new Tag("owesMoney"))));
+        assertEquals(Collections.singletonList(alice), modelManager.getFilteredPersonList());
+
+        // an edited person is tested against the original predicate
+        Person editedCarl = new PersonBuilder(CARL).withExactTags("friends").build();
+        modelManager.setPerson(carl, editedCarl);
+        assertEquals(Arrays.asList(alice, editedCarl), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(alice);
+        assertEquals(Collections.singletonList(editedCarl), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_refiningPredicate_testsOnlyFilteredPersons() {
+        Person alice = new PersonBuilder(ALICE).withExactTags("friends").build();
+        Person benson = new PersonBuilder(BENSON).withExactTags("friends", "owesMoney").build();
+        modelManager.addPerson(alice);
+        modelManager.addPerson(benson);
+        modelManager.addPerson(CARL);
+
+        modelManager.updateFilteredPersonList(new TagsMatchPredicate(Set.of(new Tag("friends")), Set.of()));
+        assertEquals(Arrays.asList(alice, benson), modelManager.getFilteredPersonList());
+
+        List<Person> testedPersons = new ArrayList<>();
+        modelManager.updateFilteredPersonList(new RefinablePredicate() {
+            @Override
+            public boolean refines(Predicate<Person> other) {
+                return true;
+            }
+
+            @Override
+            public boolean test(Person person) {
+                testedPersons.add(person);
+                return person.getTags().contains(new Tag("owesMoney"));
+            }
+        });
+        assertEquals(Arrays.asList(alice, benson), testedPersons);
+        assertEquals(Collections.singletonList(benson), modelManager.getFilteredPersonList());
+
+        // a predicate that does not refine the current one is tested against every person
+        modelManager.updateFilteredPersonList(new TagsMatchPredicate(Set.of(), Set.of(new Tag("owesMoney"))));
+        assertEquals(Arrays.asList(alice, CARL), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
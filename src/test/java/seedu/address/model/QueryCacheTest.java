@@ -0,0 +1,67 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.query.AndPredicate;
+
+public class QueryCacheTest {
+
+    private static final NameContainsKeywordsPredicate ALICE = new NameContainsKeywordsPredicate(List.of("Alice"));
+    private static final NameContainsKeywordsPredicate BOB = new NameContainsKeywordsPredicate(List.of("Bob"));
+    private static final NameContainsKeywordsPredicate CARL = new NameContainsKeywordsPredicate(List.of("Carl"));
+
+    private final QueryCache cache = new QueryCache(2);
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new QueryCache(0));
+    }
+
+    @Test
+    public void get_sameVersion_returnsCachedResult() {
+        assertNull(cache.get(ALICE, 1));
+
+        cache.put(ALICE, 1, new int[] {0, 3});
+        assertArrayEquals(new int[] {0, 3}, cache.get(ALICE, 1));
+
+        // equal queries share a result
+        assertArrayEquals(new int[] {0, 3}, cache.get(new NameContainsKeywordsPredicate(List.of("Alice")), 1));
+        assertNull(cache.get(BOB, 1));
+    }
+
+    @Test
+    public void get_equivalentCompoundQuery_returnsCachedResult() {
+        cache.put(new AndPredicate(List.of(ALICE, BOB)), 1, new int[] {2});
+        assertArrayEquals(new int[] {2}, cache.get(new AndPredicate(List.of(BOB, ALICE, BOB)), 1));
+        assertArrayEquals(new int[] {2}, cache.get(new AndPredicate(List.of(new AndPredicate(List.of(BOB)), ALICE)),
+                1));
+    }
+
+    @Test
+    public void get_otherVersion_discardsResult() {
+        cache.put(ALICE, 1, new int[] {0});
+        assertNull(cache.get(ALICE, 2));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void put_full_evictsLeastRecentlyUsed() {
+        cache.put(ALICE, 1, new int[] {0});
+        cache.put(BOB, 1, new int[] {1});
+        cache.get(ALICE, 1);
+        cache.put(CARL, 1, new int[] {2});
+
+        assertEquals(2, cache.size());
+        assertNull(cache.get(BOB, 1));
+        assertArrayEquals(new int[] {0}, cache.get(ALICE, 1));
+        assertArrayEquals(new int[] {2}, cache.get(CARL, 1));
+    }
+}
@@ -0,0 +1,186 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class RefinableFilteredListTest {
+
+    private static final Predicate<Integer> IS_EVEN = i -> i % 2 == 0;
+
+    private final ObservableList<Integer> source = FXCollections.observableArrayList();
+    private RefinableFilteredList<Integer> filteredList;
+
+    /** Replays the change events of {@code filteredList}, so that it can be checked against the list itself. */
+    private final List<Integer> mirror = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        source.setAll(1, 2, 3, 4, 5, 6, 7, 8);
+        filteredList = new RefinableFilteredList<>(source, IS_EVEN);
+        mirror.addAll(filteredList);
+        filteredList.addListener((ListChangeListener<Integer>) this::replay);
+    }
+
+    @Test
+    public void constructor_nullPredicate_showsEverything() {
+        RefinableFilteredList<Integer> unfiltered = new RefinableFilteredList<>(source);
+        assertEquals(source, unfiltered);
+        assertNull(unfiltered.getPredicate());
+    }
+
+    @Test
+    public void setPredicate() {
+        assertEquals(Arrays.asList(2, 4, 6, 8), filteredList);
+
+        filteredList.setPredicate(i -> i > 5);
+        assertEquals(Arrays.asList(6, 7, 8), filteredList);
+        assertEquals(filteredList, mirror);
+
+        filteredList.setPredicate(null);
+        assertEquals(source, filteredList);
+        assertEquals(filteredList, mirror);
+    }
+
+    @Test
+    public void setPredicateWithSourceIndices_testsNoElement() {
+        AtomicInteger testCount = new AtomicInteger();
+        Predicate<Integer> isMultipleOfThree = i -> {
+            testCount.incrementAndGet();
+            return i % 3 == 0;
+        };
+        filteredList.setPredicate(isMultipleOfThree, new int[] {2, 5});
+
+        assertEquals(Arrays.asList(3, 6), filteredList);
+        assertEquals(0, testCount.get());
+        assertEquals(filteredList, mirror);
+
+        // later changes are tested with the predicate
+        source.add(9);
+        assertEquals(Arrays.asList(3, 6, 9), filteredList);
+        assertEquals(filteredList, mirror);
+    }
+
+    @Test
+    public void getSourceIndices() {
+        int[] sourceIndices = filteredList.getSourceIndices();
+        assertEquals(Arrays.toString(new int[] {1, 3, 5, 7}), Arrays.toString(sourceIndices));
+
+        // the returned indices are a copy
+        sourceIndices[0] = 0;
+        assertEquals(Arrays.asList(2, 4, 6, 8), filteredList);
+    }
+
+    @Test
+    public void refine_testsOnlyElementsInView() {
+        AtomicInteger testCount = new AtomicInteger();
+        filteredList.refine(i -> {
+            testCount.incrementAndGet();
+            return i % 4 == 0;
+        });
+
+        assertEquals(Arrays.asList(4, 8), filteredList);
+        assertEquals(4, testCount.get());
+        assertEquals(filteredList, mirror);
+    }
+
+    @Test
+    public void refine_thenSourceChanges_usesRefinedPredicate() {
+        filteredList.refine(i -> i % 4 == 0);
+        source.addAll(10, 12);
+        assertEquals(Arrays.asList(4, 8, 12), filteredList);
+        assertEquals(filteredList, mirror);
+    }
+
+    @Test
+    public void sourceChanged_testsOnlyChangedElements() {
+        AtomicInteger testCount = new AtomicInteger();
+        filteredList.setPredicate(i -> {
+            testCount.incrementAndGet();
+            return i % 2 == 0;
+        });
+        testCount.set(0);
+
+        source.set(0, 10);
+        source.remove(Integer.valueOf(4));
+        source.add(3, 14);
+        assertEquals(Arrays.asList(10, 2, 14, 6, 8), filteredList);
+        assertEquals(2, testCount.get());
+        assertEquals(filteredList, mirror);
+    }
+
+    @Test
+    public void sourceChanged_randomChanges_matchesFilteredSource() {
+        Random random = new Random(42);
+        for (int step = 0; step < 500; step++) {
+            int operation = random.nextInt(5);
+            if (operation == 0 || source.isEmpty()) {
+                source.add(random.nextInt(source.size() + 1), random.nextInt(100));
+            } else if (operation == 1) {
+                source.remove(random.nextInt(source.size()));
+            } else if (operation == 2) {
+                source.set(random.nextInt(source.size()), random.nextInt(100));
+            } else if (operation == 3) {
+                int from = random.nextInt(source.size());
+                source.remove(from, from + random.nextInt(source.size() - from + 1));
+            } else {
+                FXCollections.sort(source);
+            }
+
+            List<Integer> expected = new ArrayList<>();
+            source.stream().filter(IS_EVEN).forEach(expected::add);
+            assertEquals(expected, filteredList);
+            assertEquals(expected, mirror);
+        }
+    }
+
+    @Test
+    public void getSourceIndex_getViewIndex() {
+        assertEquals(3, filteredList.getSourceIndex(1));
+        assertEquals(1, filteredList.getViewIndex(3));
+        assertEquals(-1, filteredList.getViewIndex(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> filteredList.getSourceIndex(4));
+        assertThrows(IndexOutOfBoundsException.class, () -> filteredList.get(-1));
+    }
+
+    @Test
+    public void modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> filteredList.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> filteredList.addAll(Collections.singletonList(2)));
+    }
+
+    private void replay(ListChangeListener.Change<? extends Integer> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                List<Integer> permuted = new ArrayList<>(mirror);
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permuted.set(change.getPermutation(i), mirror.get(i));
+                }
+                mirror.clear();
+                mirror.addAll(permuted);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    mirror.set(i, change.getList().get(i));
+                }
+            } else {
+                mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                mirror.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        }
+    }
+}
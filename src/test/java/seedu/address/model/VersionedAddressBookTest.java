@@ -0,0 +1,212 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.ALICESTAFF;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BENSONSTAFF;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class VersionedAddressBookTest {
+
+    private final VersionedAddressBook addressBook = new VersionedAddressBook(new AddressBook());
+
+    @Test
+    public void constructor_initialState_cannotUndo() {
+        AddressBook initialState = new AddressBook();
+        initialState.addPerson(ALICE);
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(initialState);
+
+        assertEquals(initialState, versionedAddressBook);
+        assertFalse(versionedAddressBook.canUndo());
+        assertFalse(versionedAddressBook.canRedo());
+        assertThrows(IllegalStateException.class, versionedAddressBook::undo);
+        assertThrows(IllegalStateException.class, versionedAddressBook::redo);
+    }
+
+    @Test
+    public void commit_noChanges_cannotUndo() {
+        addressBook.commit();
+        assertFalse(addressBook.canUndo());
+    }
+
+    @Test
+    public void undoRedo_personChanges_restoresStatesInOrder() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        addressBook.addPerson(CARL);
+        addressBook.commit();
+
+        Person editedBenson = new PersonBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.setPerson(BENSON, editedBenson);
+        addressBook.removePerson(ALICE);
+        addressBook.commit();
+        assertEquals(Arrays.asList(editedBenson, CARL), addressBook.getPersonList());
+
+        addressBook.undo();
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), addressBook.getPersonList());
+        assertTrue(addressBook.canRedo());
+
+        addressBook.undo();
+        assertEquals(Collections.emptyList(), addressBook.getPersonList());
+        assertFalse(addressBook.canUndo());
+
+        addressBook.redo();
+        addressBook.redo();
+        assertEquals(Arrays.asList(editedBenson, CARL), addressBook.getPersonList());
+        assertFalse(addressBook.canRedo());
+    }
+
+    @Test
+    public void undo_removal_restoresPositionInList() {
+        addressBook.setPersons(Arrays.asList(ALICESTAFF, CARL, BENSONSTAFF));
+        addressBook.commit();
+        addressBook.removePerson(ALICESTAFF);
+        addressBook.commit();
+
+        addressBook.undo();
+        assertEquals(Arrays.asList(ALICESTAFF, CARL, BENSONSTAFF), addressBook.getPersonList());
+        assertTrue(addressBook.hasPerson(ALICESTAFF));
+    }
+
+    @Test
+    public void undoRedo_severalRemovalsInOneCommit_restoresPositions() {
+        List<Person> persons = Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE);
+        addressBook.setPersons(persons);
+        addressBook.commit();
+        addressBook.removePerson(BENSON);
+        addressBook.removePerson(DANIEL);
+        addressBook.removePerson(ALICE);
+        addressBook.commit();
+
+        addressBook.undo();
+        assertEquals(persons, addressBook.getPersonList());
+        addressBook.redo();
+        assertEquals(Arrays.asList(CARL, ELLE), addressBook.getPersonList());
+        addressBook.undo();
+        assertEquals(persons, addressBook.getPersonList());
+    }
+
+    @Test
+    public void undo_removalBeforeReset_restoresPositionAndAddsAfterIt() {
+        addressBook.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        addressBook.commit();
+        addressBook.removePerson(BENSON);
+        addressBook.commit();
+        addressBook.resetData(new AddressBook());
+        addressBook.commit();
+
+        addressBook.undo();
+        addressBook.undo();
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), addressBook.getPersonList());
+
+        // persons added later still go to the end of the list
+        addressBook.addPerson(DANIEL);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, DANIEL), addressBook.getPersonList());
+    }
+
+    @Test
+    public void undo_notifiesListenersOnce() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        addressBook.addPerson(CARL);
+        addressBook.commit();
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) changes::add);
+
+        addressBook.undo();
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void undo_resetData_restoresPreviousBook() {
+        addressBook.addPerson(ALICE);
+        addressBook.commit();
+        addressBook.resetData(new AddressBook());
+        addressBook.commit();
+
+        addressBook.undo();
+        assertEquals(Collections.singletonList(ALICE), addressBook.getPersonList());
+        addressBook.redo();
+        assertEquals(Collections.emptyList(), addressBook.getPersonList());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_discardsThemFirst() {
+        addressBook.addPerson(ALICE);
+        addressBook.commit();
+        addressBook.addPerson(BENSON);
+
+        addressBook.undo();
+        assertEquals(Collections.emptyList(), addressBook.getPersonList());
+        addressBook.redo();
+        assertEquals(Collections.singletonList(ALICE), addressBook.getPersonList());
+    }
+
+    @Test
+    public void commit_afterUndo_clearsRedo() {
+        addressBook.addPerson(ALICE);
+        addressBook.commit();
+        addressBook.undo();
+        addressBook.addPerson(BENSON);
+        addressBook.commit();
+
+        assertFalse(addressBook.canRedo());
+        assertEquals(Collections.singletonList(BENSON), addressBook.getPersonList());
+    }
+
+    @Test
+    public void commit_overRecordBound_forgetsOldestStates() {
+        VersionedAddressBook boundedAddressBook = new VersionedAddressBook(new AddressBook(), 3);
+        boundedAddressBook.addPerson(ALICE);
+        boundedAddressBook.commit();
+        boundedAddressBook.addPerson(BENSON);
+        boundedAddressBook.commit();
+        boundedAddressBook.addPerson(CARL);
+        boundedAddressBook.commit();
+        boundedAddressBook.addPerson(DANIEL);
+        boundedAddressBook.commit();
+
+        boundedAddressBook.undo();
+        boundedAddressBook.undo();
+        boundedAddressBook.undo();
+        assertFalse(boundedAddressBook.canUndo());
+        assertEquals(Collections.singletonList(ALICE), boundedAddressBook.getPersonList());
+    }
+
+    @Test
+    public void commit_resetOfLargeBook_keepsEarlierStates() {
+        VersionedAddressBook boundedAddressBook = new VersionedAddressBook(new AddressBook(), 3);
+        boundedAddressBook.addPerson(ALICE);
+        boundedAddressBook.addPerson(BENSON);
+        boundedAddressBook.commit();
+        boundedAddressBook.resetData(new AddressBook());
+        boundedAddressBook.commit();
+
+        boundedAddressBook.undo();
+        boundedAddressBook.undo();
+        assertEquals(Collections.emptyList(), boundedAddressBook.getPersonList());
+    }
+
+    @Test
+    public void constructor_negativeBound_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new VersionedAddressBook(new AddressBook(), -1));
+    }
+}
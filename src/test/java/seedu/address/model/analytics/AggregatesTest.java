@@ -0,0 +1,106 @@
+package seedu.address.model.analytics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Role;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.MaintainerBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.StaffBuilder;
+
+public class AggregatesTest {
+
+    private static final Person FRIEND = new PersonBuilder().withName("Friend").withExactTags("friends").build();
+    private static final Person STAFF = new StaffBuilder().withName("Staff").withSalary("$20/hr").build();
+    private static final Person OTHER_STAFF = new StaffBuilder().withName("Other Staff").withSalary("$15/hr").build();
+    private static final Person MAINTAINER = new MaintainerBuilder().withName("Maintainer")
+            .withCommission("$10/hr").build();
+    private static final Person OTHER_MAINTAINER = new MaintainerBuilder().withName("Other Maintainer")
+            .withCommission("$15/hr").build();
+
+    private final Aggregates aggregates = new Aggregates();
+
+    @Test
+    public void add_remove_updatesTotals() {
+        aggregates.add(FRIEND);
+        aggregates.add(STAFF);
+        aggregates.add(OTHER_STAFF);
+        aggregates.add(MAINTAINER);
+        aggregates.add(OTHER_MAINTAINER);
+
+        assertEquals(5, aggregates.getPersonCount());
+        assertEquals(1, aggregates.getCount(Role.PERSON));
+        assertEquals(2, aggregates.getCount(Role.STAFF));
+        assertEquals(0, aggregates.getCount(Role.SUPPLIER));
+        assertEquals(BigInteger.valueOf(3500), aggregates.getTotalStaffSalaryCents());
+        assertEquals(OptionalLong.of(1250), aggregates.getAverageMaintainerCommissionCents());
+        assertEquals(Map.of(new Tag("friends"), 1, new Tag("staff"), 2, new Tag("maintainer"), 2),
+                aggregates.getTagCounts());
+
+        aggregates.remove(FRIEND);
+        aggregates.remove(STAFF);
+        aggregates.remove(MAINTAINER);
+        assertEquals(2, aggregates.getPersonCount());
+        assertEquals(BigInteger.valueOf(1500), aggregates.getTotalStaffSalaryCents());
+        assertEquals(OptionalLong.of(1500), aggregates.getAverageMaintainerCommissionCents());
+        assertFalse(aggregates.getTagCounts().containsKey(new Tag("friends")));
+    }
+
+    @Test
+    public void getAverageMaintainerCommissionCents_noMaintainers_returnsEmpty() {
+        aggregates.add(STAFF);
+        assertEquals(OptionalLong.empty(), aggregates.getAverageMaintainerCommissionCents());
+    }
+
+    @Test
+    public void add_totalsBeyondLong_keptExactly() {
+        Person richStaff = new StaffBuilder().withSalary("$999999999999999/hr").build();
+        Person richMaintainer = new MaintainerBuilder().withCommission("$999999999999999/hr").build();
+        for (int i = 0; i < 100; i++) {
+            aggregates.add(richStaff);
+            aggregates.add(richMaintainer);
+        }
+
+        assertEquals(new BigInteger("9999999999999990000"), aggregates.getTotalStaffSalaryCents());
+        assertEquals(OptionalLong.of(99999999999999900L), aggregates.getAverageMaintainerCommissionCents());
+
+        aggregates.remove(richStaff);
+        assertEquals(new BigInteger("9899999999999990100"), aggregates.getTotalStaffSalaryCents());
+    }
+
+    @Test
+    public void reset_matchesAddingEachPerson() {
+        aggregates.add(FRIEND);
+        Aggregates expected = new Aggregates();
+        expected.add(STAFF);
+        expected.add(MAINTAINER);
+
+        aggregates.reset(List.of(STAFF, MAINTAINER));
+        assertEquals(expected, aggregates);
+    }
+
+    @Test
+    public void copy_isIndependent() {
+        aggregates.add(STAFF);
+        Aggregates copy = new Aggregates(aggregates);
+        assertEquals(aggregates, copy);
+
+        aggregates.add(OTHER_STAFF);
+        assertEquals(BigInteger.valueOf(2000), copy.getTotalStaffSalaryCents());
+    }
+
+    @Test
+    public void getTagCounts_modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> aggregates.getTagCounts().clear());
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.address.model.analytics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.index.AmountField;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Role;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.MaintainerBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.StaffBuilder;
+import seedu.address.testutil.SupplierBuilder;
+
+public class ColumnarSnapshotTest {
+
+    private static final Tag FRIENDS = new Tag("friends");
+    private static final Tag OWES_MONEY = new Tag("owesMoney");
+
+    private static final Person ALICE = new PersonBuilder().withName("Alice").withExactTags("friends").build();
+    private static final Person BENSON =
+            new PersonBuilder().withName("Benson").withExactTags("friends", "owesMoney").build();
+    private static final Person CARL_STAFF = new StaffBuilder().withName("Carl").withSalary("$15/hr")
+            .withEmployment("part-time").build();
+    private static final Person DANIEL_STAFF = new StaffBuilder().withName("Daniel").withSalary("$20/hr")
+            .withEmployment("full-time").build();
+    private static final Person ELLE_STAFF = new StaffBuilder().withName("Elle").withSalary("$30/hr")
+            .withEmployment("full-time").build();
+    private static final Person FIONA_SUPPLIER = new SupplierBuilder().withName("Fiona").withProduct("pooch food")
+            .withPrice("$5/bag").build();
+    private static final Person GEORGE_MAINTAINER = new MaintainerBuilder().withName("George")
+            .withSkill("train dog").withCommission("$40/hr").build();
+
+    private final ColumnarSnapshot snapshot = ColumnarSnapshot.of(addressBookOf(ALICE, BENSON, CARL_STAFF,
+            DANIEL_STAFF, ELLE_STAFF, FIONA_SUPPLIER, GEORGE_MAINTAINER));
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ColumnarSnapshot.of(null));
+    }
+
+    @Test
+    public void countByRole() {
+        assertEquals(7, snapshot.size());
+        assertEquals(Map.of(Role.PERSON, 2, Role.STAFF, 3, Role.SUPPLIER, 1, Role.MAINTAINER, 1),
+                snapshot.countByRole());
+        assertEquals(Map.of(Role.PERSON, 0, Role.STAFF, 0, Role.SUPPLIER, 0, Role.MAINTAINER, 0),
+                ColumnarSnapshot.of(new AddressBook()).countByRole());
+    }
+
+    @Test
+    public void countByTag_countWithAllTags() {
+        // the role builders tag each person with its role
+        assertEquals(Map.of(FRIENDS, 2, OWES_MONEY, 1, new Tag("staff"), 3, new Tag("supplier"), 1,
+                new Tag("maintainer"), 1), snapshot.countByTag());
+        assertEquals(2, snapshot.countWithAllTags(Set.of(FRIENDS)));
+        assertEquals(1, snapshot.countWithAllTags(Set.of(FRIENDS, OWES_MONEY)));
+        assertEquals(0, snapshot.countWithAllTags(Set.of(FRIENDS, new Tag("unused"))));
+        assertEquals(7, snapshot.countWithAllTags(Collections.emptySet()));
+    }
+
+    @Test
+    public void summarize() {
+        LongSummaryStatistics salaries = snapshot.summarize(AmountField.SALARY);
+        assertEquals(3, salaries.getCount());
+        assertEquals(6500, salaries.getSum());
+        assertEquals(1500, salaries.getMin());
+        assertEquals(3000, salaries.getMax());
+
+        assertEquals(1, snapshot.summarize(AmountField.COMMISSION).getCount());
+        assertEquals(0, ColumnarSnapshot.of(new AddressBook()).summarize(AmountField.PRICE).getCount());
+    }
+
+    @Test
+    public void summarizeBy() {
+        Map<String, LongSummaryStatistics> salaryByEmployment =
+                snapshot.summarizeBy(CategoryField.EMPLOYMENT, AmountField.SALARY);
+        assertEquals(List.of("part-time", "full-time"), List.copyOf(salaryByEmployment.keySet()));
+        assertEquals(1500, salaryByEmployment.get("part-time").getSum());
+        assertEquals(2500, salaryByEmployment.get("full-time").getAverage());
+
+        // persons without the amount are left out
+        assertEquals(Collections.emptyMap(), snapshot.summarizeBy(CategoryField.EMPLOYMENT, AmountField.PRICE));
+    }
+
+    @Test
+    public void distribution() {
+        assertEquals(Map.of(1000L, 1, 2000L, 1, 3000L, 1), snapshot.distribution(AmountField.SALARY, 1000));
+        assertEquals(Map.of(0L, 3), snapshot.distribution(AmountField.SALARY, 10000));
+        assertThrows(IllegalArgumentException.class, () -> snapshot.distribution(AmountField.SALARY, 0));
+    }
+
+    @Test
+    public void getDistinctValues() {
+        assertEquals(List.of("part-time", "full-time"), snapshot.getDistinctValues(CategoryField.EMPLOYMENT));
+        assertEquals(List.of("bag"), snapshot.getDistinctValues(CategoryField.PRICE_UNIT));
+        assertEquals(List.of("train dog"), snapshot.getDistinctValues(CategoryField.SKILL));
+    }
+
+    private static AddressBook addressBookOf(Person... persons) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(List.of(persons));
+        return addressBook;
+    }
+}
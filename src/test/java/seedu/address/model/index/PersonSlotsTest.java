@@ -0,0 +1,48 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.junit.jupiter.api.Test;
+
+public class PersonSlotsTest {
+
+    private final PersonSlots slots = new PersonSlots();
+
+    @Test
+    public void assign_freedSlot_reusesSlot() {
+        assertEquals(0, slots.assign(ALICE));
+        assertEquals(1, slots.assign(BENSON));
+        assertEquals(0, slots.release(ALICE));
+        assertNull(slots.get(0));
+        assertEquals(0, slots.assign(CARL));
+        assertEquals(2, slots.size());
+    }
+
+    @Test
+    public void replace_keepsSlot() {
+        slots.assign(ALICE);
+        assertEquals(0, slots.replace(ALICE, BOB));
+        assertEquals(BOB, slots.get(0));
+        assertEquals(0, slots.slotOf(BOB));
+    }
+
+    @Test
+    public void getAll() {
+        slots.assign(ALICE);
+        slots.assign(BENSON);
+        slots.assign(CARL);
+        BitSet selected = new BitSet();
+        selected.set(0);
+        selected.set(2);
+        assertEquals(Arrays.asList(ALICE, CARL), slots.getAll(selected));
+        assertEquals(3, slots.occupied().cardinality());
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PrefixTrieTest {
+
+    private static final Person ALICE = new PersonBuilder().withName("Alice Pauline").build();
+    private static final Person ALI = new PersonBuilder().withName("Ali Bin Bakar").build();
+    private static final Person BENSON = new PersonBuilder().withName("Benson Alison").build();
+
+    private final PrefixTrie prefixTrie = new PrefixTrie();
+
+    @Test
+    public void query() {
+        prefixTrie.add(0, ALICE);
+        prefixTrie.add(1, ALI);
+        prefixTrie.add(2, BENSON);
+
+        assertEquals(slots(0, 1, 2), prefixTrie.query("al"));
+        assertEquals(slots(0), prefixTrie.query("ALIC"));
+        assertEquals(slots(0), prefixTrie.query("pauline"));
+        assertEquals(slots(), prefixTrie.query("paulines"));
+        assertEquals(slots(), prefixTrie.query("z"));
+    }
+
+    @Test
+    public void queryTop() {
+        prefixTrie.add(0, ALICE);
+        prefixTrie.add(1, ALI);
+        prefixTrie.add(2, BENSON);
+
+        // alphabetical order of the matching words: ali, alice, alison
+        assertEquals(List.of(1, 0, 2), prefixTrie.queryTop("ali", 5));
+        assertEquals(List.of(1, 0), prefixTrie.queryTop("ali", 2));
+        assertEquals(Collections.emptyList(), prefixTrie.queryTop("ali", 0));
+
+        // a person matching through several words is returned once
+        assertEquals(List.of(1), prefixTrie.queryTop("b", 5).subList(0, 1));
+        assertEquals(2, prefixTrie.queryTop("b", 5).size());
+    }
+
+    @Test
+    public void remove() {
+        prefixTrie.add(0, ALICE);
+        prefixTrie.add(1, ALI);
+        prefixTrie.remove(1, ALI);
+
+        assertEquals(slots(0), prefixTrie.query("ali"));
+        assertEquals(slots(), prefixTrie.query("bakar"));
+
+        prefixTrie.remove(0, ALICE);
+        assertEquals(slots(), prefixTrie.query(""));
+    }
+
+    @Test
+    public void remove_repeatedNameWord_forgottenOnce() {
+        Person tanTan = new PersonBuilder().withName("Tan Tan").build();
+        prefixTrie.add(0, tanTan);
+        prefixTrie.add(1, ALICE);
+        assertEquals(slots(0), prefixTrie.query("ta"));
+
+        prefixTrie.remove(0, tanTan);
+        assertEquals(slots(), prefixTrie.query("ta"));
+        assertEquals(slots(1), prefixTrie.query(""));
+    }
+
+    private static BitSet slots(int... slots) {
+        BitSet bitSet = new BitSet();
+        for (int slot : slots) {
+            bitSet.set(slot);
+        }
+        return bitSet;
+    }
+}
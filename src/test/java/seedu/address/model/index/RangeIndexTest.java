@@ -0,0 +1,86 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.MaintainerBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.StaffBuilder;
+import seedu.address.testutil.SupplierBuilder;
+
+public class RangeIndexTest {
+
+    private static final Person ALICE = new StaffBuilder().withName("Alice").withSalary("$15/hr").build();
+    private static final Person BENSON = new StaffBuilder().withName("Benson").withSalary("$30/hr").build();
+    private static final Person CARL = new StaffBuilder().withName("Carl").withSalary("$30/hr").build();
+    private static final Person DANIEL = new SupplierBuilder().withName("Daniel").withPrice("$20/kg").build();
+    private static final Person ELLE = new MaintainerBuilder().withName("Elle").withCommission("$25/hr").build();
+    private static final Person FIONA = new PersonBuilder().withName("Fiona").build();
+
+    private final RangeIndex rangeIndex = new RangeIndex();
+
+    @Test
+    public void query() {
+        addAll();
+
+        assertEquals(slots(0, 1, 2), rangeIndex.query(AmountField.SALARY, 0, Long.MAX_VALUE));
+        assertEquals(slots(1, 2), rangeIndex.query(AmountField.SALARY, 16, 30));
+        assertEquals(slots(0), rangeIndex.query(AmountField.SALARY, 15, 15));
+        assertEquals(slots(), rangeIndex.query(AmountField.SALARY, 31, 20));
+
+        // fields are indexed separately
+        assertEquals(slots(3), rangeIndex.query(AmountField.PRICE, 0, 100));
+        assertEquals(slots(4), rangeIndex.query(AmountField.COMMISSION, 25, 25));
+    }
+
+    @Test
+    public void count() {
+        addAll();
+
+        assertEquals(3, rangeIndex.count(AmountField.SALARY, 0, Long.MAX_VALUE));
+        assertEquals(2, rangeIndex.count(AmountField.SALARY, 16, 30));
+        assertEquals(0, rangeIndex.count(AmountField.SALARY, 31, 20));
+        assertEquals(1, rangeIndex.count(AmountField.PRICE, 0, 100));
+    }
+
+    @Test
+    public void queryTop() {
+        addAll();
+
+        assertEquals(List.of(1, 2, 0), rangeIndex.queryTop(AmountField.SALARY, 5, true));
+        assertEquals(List.of(1, 2), rangeIndex.queryTop(AmountField.SALARY, 2, true));
+        assertEquals(List.of(0, 1), rangeIndex.queryTop(AmountField.SALARY, 2, false));
+        assertEquals(Collections.emptyList(), rangeIndex.queryTop(AmountField.SALARY, 0, true));
+    }
+
+    @Test
+    public void remove() {
+        addAll();
+        rangeIndex.remove(1, BENSON);
+        rangeIndex.remove(3, DANIEL);
+
+        assertEquals(slots(2), rangeIndex.query(AmountField.SALARY, 30, 30));
+        assertEquals(slots(), rangeIndex.query(AmountField.PRICE, 0, Long.MAX_VALUE));
+    }
+
+    private void addAll() {
+        List<Person> persons = List.of(ALICE, BENSON, CARL, DANIEL, ELLE, FIONA);
+        for (int slot = 0; slot < persons.size(); slot++) {
+            rangeIndex.add(slot, persons.get(slot));
+        }
+    }
+
+    private static BitSet slots(int... slots) {
+        BitSet bitSet = new BitSet();
+        for (int slot : slots) {
+            bitSet.set(slot);
+        }
+        return bitSet;
+    }
+}
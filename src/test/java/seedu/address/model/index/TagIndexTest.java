@@ -0,0 +1,80 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class TagIndexTest {
+
+    private static final Tag FRIENDS = new Tag("friends");
+    private static final Tag OWES_MONEY = new Tag("owesMoney");
+    private static final Tag UNUSED = new Tag("unused");
+
+    private static final Person ALICE = new PersonBuilder().withName("Alice").withExactTags("friends").build();
+    private static final Person BENSON =
+            new PersonBuilder().withName("Benson").withExactTags("friends", "owesMoney").build();
+    private static final Person CARL = new PersonBuilder().withName("Carl").withExactTags().build();
+
+    private final TagIndex tagIndex = new TagIndex();
+
+    @Test
+    public void count() {
+        tagIndex.add(0, ALICE);
+        tagIndex.add(1, BENSON);
+        assertEquals(2, tagIndex.count(FRIENDS));
+        assertEquals(1, tagIndex.count(OWES_MONEY));
+        assertEquals(0, tagIndex.count(UNUSED));
+
+        tagIndex.remove(1, BENSON);
+        assertEquals(1, tagIndex.count(FRIENDS));
+        assertEquals(0, tagIndex.count(OWES_MONEY));
+    }
+
+    @Test
+    public void query() {
+        tagIndex.add(0, ALICE);
+        tagIndex.add(1, BENSON);
+        tagIndex.add(2, CARL);
+        BitSet universe = new BitSet();
+        universe.set(0, 3);
+
+        // required tags only
+        assertEquals(slots(0, 1), tagIndex.query(Set.of(FRIENDS), Collections.emptySet(), universe));
+
+        // required and excluded tags
+        assertEquals(slots(0), tagIndex.query(Set.of(FRIENDS), Set.of(OWES_MONEY), universe));
+
+        // excluded tags only
+        assertEquals(slots(0, 2), tagIndex.query(Collections.emptySet(), Set.of(OWES_MONEY), universe));
+
+        // unknown required tag
+        assertEquals(slots(), tagIndex.query(Set.of(FRIENDS, UNUSED), Collections.emptySet(), universe));
+
+        // restricted universe
+        assertEquals(slots(1), tagIndex.query(Set.of(FRIENDS), Collections.emptySet(), slots(1, 2)));
+    }
+
+    @Test
+    public void query_doesNotModifyUniverse() {
+        tagIndex.add(0, ALICE);
+        BitSet universe = slots(0, 1);
+        tagIndex.query(Set.of(FRIENDS), Collections.emptySet(), universe);
+        assertEquals(slots(0, 1), universe);
+    }
+
+    private static BitSet slots(int... slots) {
+        BitSet bitSet = new BitSet();
+        for (int slot : slots) {
+            bitSet.set(slot);
+        }
+        return bitSet;
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.MaintainerBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.SupplierBuilder;
+
+public class TokenIndexTest {
+
+    private static final Person ALICE = new PersonBuilder().withName("Alice Pauline")
+            .withAddress("123, Jurong West Ave 6").build();
+    private static final Person BENSON = new SupplierBuilder().withName("Benson Meier")
+            .withAddress("311, Clementi Ave 2").withProduct("dog food").build();
+    private static final Person CARL = new MaintainerBuilder().withName("Carl Kurz")
+            .withAddress("wall street").withSkill("groom dog").build();
+
+    private final TokenIndex tokenIndex = new TokenIndex();
+
+    @Test
+    public void queryAny() {
+        tokenIndex.add(0, ALICE);
+        tokenIndex.add(1, BENSON);
+        tokenIndex.add(2, CARL);
+
+        // case-insensitive whole-word match
+        assertEquals(slots(0), tokenIndex.queryAny(TextField.NAME, List.of("aLiCe")));
+        assertEquals(slots(), tokenIndex.queryAny(TextField.NAME, List.of("Ali")));
+
+        // any of several keywords
+        assertEquals(slots(0, 2), tokenIndex.queryAny(TextField.NAME, List.of("Pauline", "Kurz")));
+
+        // fields are indexed separately
+        assertEquals(slots(0, 1), tokenIndex.queryAny(TextField.ADDRESS, List.of("Ave")));
+        assertEquals(slots(1), tokenIndex.queryAny(TextField.PRODUCT, List.of("dog")));
+        assertEquals(slots(2), tokenIndex.queryAny(TextField.SKILL, List.of("dog")));
+    }
+
+    @Test
+    public void remove() {
+        tokenIndex.add(0, ALICE);
+        tokenIndex.add(1, BENSON);
+        assertEquals(1, tokenIndex.count(TextField.NAME, "benson"));
+
+        tokenIndex.remove(1, BENSON);
+        assertEquals(0, tokenIndex.count(TextField.NAME, "benson"));
+        assertEquals(0, tokenIndex.count(TextField.PRODUCT, "dog"));
+        assertEquals(1, tokenIndex.count(TextField.ADDRESS, "ave"));
+    }
+
+    @Test
+    public void remove_repeatedWords_forgottenOnce() {
+        Person tanTan = new PersonBuilder().withName("Tan Tan").withAddress("Blk 1 Blk 2").build();
+        tokenIndex.add(0, tanTan);
+        tokenIndex.add(1, ALICE);
+        assertEquals(1, tokenIndex.count(TextField.NAME, "tan"));
+        assertEquals(1, tokenIndex.count(TextField.ADDRESS, "blk"));
+
+        tokenIndex.remove(0, tanTan);
+        assertEquals(0, tokenIndex.count(TextField.NAME, "tan"));
+        assertEquals(0, tokenIndex.count(TextField.ADDRESS, "blk"));
+        assertEquals(slots(1), tokenIndex.queryAny(TextField.NAME, List.of("Alice")));
+    }
+
+    private static BitSet slots(int... slots) {
+        BitSet bitSet = new BitSet();
+        for (int slot : slots) {
+            bitSet.set(slot);
+        }
+        return bitSet;
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.model.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class TrigramIndexTest {
+
+    private static final Person ALICE = new PersonBuilder().withName("Alice Pauline").build();
+    private static final Person ALICIA = new PersonBuilder().withName("Alicia Paulin").build();
+    private static final Person BENSON = new PersonBuilder().withName("Benson Meier").build();
+
+    private final TrigramIndex trigramIndex = new TrigramIndex();
+
+    @Test
+    public void findSimilar() {
+        trigramIndex.add(ALICE);
+        trigramIndex.add(ALICIA);
+        trigramIndex.add(BENSON);
+
+        // exact match comes before a one-letter typo
+        assertEquals(List.of("alice", "alicia"), words(trigramIndex.findSimilar("Alice", 2)));
+        assertEquals(List.of(0, 2), trigramIndex.findSimilar("Alice", 2).stream()
+                .map(TrigramIndex.Match::getDistance).collect(Collectors.toList()));
+
+        // transposed letters
+        assertEquals(List.of("benson"), words(trigramIndex.findSimilar("bneson", 2)));
+
+        // within the bound only
+        assertEquals(List.of("meier"), words(trigramIndex.findSimilar("meir", 1)));
+        assertEquals(Collections.emptyList(), words(trigramIndex.findSimilar("mayor", 1)));
+    }
+
+    @Test
+    public void remove() {
+        trigramIndex.add(ALICE);
+        trigramIndex.add(ALICIA);
+        trigramIndex.remove(ALICIA);
+
+        assertEquals(List.of("pauline"), words(trigramIndex.findSimilar("paulin", 1)));
+
+        trigramIndex.remove(ALICE);
+        assertEquals(Collections.emptyList(), words(trigramIndex.findSimilar("alice", 2)));
+    }
+
+    private static List<String> words(List<TrigramIndex.Match> matches) {
+        return matches.stream().map(TrigramIndex.Match::getWord).collect(Collectors.toList());
+    }
+}
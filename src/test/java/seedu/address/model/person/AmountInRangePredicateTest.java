@@ -0,0 +1,96 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.index.AddressBookIndex;
+import seedu.address.model.index.AmountField;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.StaffBuilder;
+import seedu.address.testutil.SupplierBuilder;
+
+public class AmountInRangePredicateTest {
+
+    @Test
+    public void equals() {
+        AmountInRangePredicate predicate = new AmountInRangePredicate(AmountField.SALARY, 10, 20);
+
+        // same object -> returns true
+        assertTrue(predicate.equals(predicate));
+
+        // same values -> returns true
+        assertTrue(predicate.equals(new AmountInRangePredicate(AmountField.SALARY, 10, 20)));
+
+        // different types -> returns false
+        assertFalse(predicate.equals(1));
+
+        // null -> returns false
+        assertFalse(predicate.equals(null));
+
+        // different field -> returns false
+        assertFalse(predicate.equals(new AmountInRangePredicate(AmountField.COMMISSION, 10, 20)));
+
+        // different bounds -> returns false
+        assertFalse(predicate.equals(new AmountInRangePredicate(AmountField.SALARY, 11, 20)));
+        assertFalse(predicate.equals(new AmountInRangePredicate(AmountField.SALARY, 10, 21)));
+    }
+
+    @Test
+    public void test() {
+        AmountInRangePredicate predicate = new AmountInRangePredicate(AmountField.SALARY, 10, 20);
+
+        // inclusive bounds
+        assertTrue(predicate.test(new StaffBuilder().withSalary("$10/hr").build()));
+        assertTrue(predicate.test(new StaffBuilder().withSalary("$20/hr").build()));
+
+        // out of range
+        assertFalse(predicate.test(new StaffBuilder().withSalary("$21/hr").build()));
+
+        // person without the field
+        assertFalse(predicate.test(new SupplierBuilder().withPrice("$15/kg").build()));
+        assertFalse(predicate.test(new PersonBuilder().build()));
+    }
+
+    @Test
+    public void resolve_agreesWithTest() {
+        Person alice = new StaffBuilder().withName("Alice").withSalary("$15/hr").build();
+        Person benson = new StaffBuilder().withName("Benson").withSalary("$40/hr").build();
+        Person carl = new SupplierBuilder().withName("Carl").withPrice("$15/kg").build();
+        AddressBookIndex index = new AddressBookIndex();
+        index.reset(Arrays.asList(alice, benson, carl));
+
+        assertEquals(Collections.singletonList(alice),
+                index.getMatches(new AmountInRangePredicate(AmountField.SALARY, 0, 20)));
+        assertEquals(Arrays.asList(alice, benson),
+                index.getMatches(new AmountInRangePredicate(AmountField.SALARY, 15, Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void refines() {
+        AmountInRangePredicate predicate = new AmountInRangePredicate(AmountField.SALARY, 10, 50);
+
+        // narrower range -> returns true
+        assertTrue(new AmountInRangePredicate(AmountField.SALARY, 20, 50).refines(predicate));
+        assertTrue(predicate.refines(predicate));
+
+        // wider range -> returns false
+        assertFalse(new AmountInRangePredicate(AmountField.SALARY, 5, 50).refines(predicate));
+        assertFalse(new AmountInRangePredicate(AmountField.SALARY, 10, 51).refines(predicate));
+
+        // different field -> returns false
+        assertFalse(new AmountInRangePredicate(AmountField.PRICE, 20, 30).refines(predicate));
+    }
+
+    @Test
+    public void toStringMethod() {
+        AmountInRangePredicate predicate = new AmountInRangePredicate(AmountField.PRICE, 1, 2);
+        String expected = AmountInRangePredicate.class.getCanonicalName() + "{field=PRICE, min=1, max=2}";
+        assertEquals(expected, predicate.toString());
+    }
+}
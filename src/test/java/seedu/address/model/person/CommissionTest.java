@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -19,6 +20,11 @@ public class CommissionTest {
         assertThrows(IllegalArgumentException.class, () -> new Commission(invalidCommission));
     }
 
+    @Test
+    public void messageConstraints_statesLargestAmount() {
+        assertTrue(Commission.MESSAGE_CONSTRAINTS.contains("999999999999999"));
+    }
+
     @Test
     public void isValidCommission() {
         // null commission
@@ -31,11 +37,30 @@ public class CommissionTest {
         assertFalse(Commission.isValidCommission("50/hr"));
         assertFalse(Commission.isValidCommission("$50"));
 
+        assertFalse(Commission.isValidCommission("$1000000000000000/hr")); // cents would not fit in a long
+        assertFalse(Commission.isValidCommission("$99999999999999999999/hr"));
+
         // valid commission
+        assertTrue(Commission.isValidCommission("$000000000000000000050/hr")); // leading zeros
+        assertTrue(Commission.isValidCommission("$999999999999999/hr")); // largest amount
         assertTrue(Commission.isValidCommission("$500/hr")); // exactly 3 numbers
         assertTrue(Commission.isValidCommission("$50/hr"));
     }
 
+    @Test
+    public void getAmount() {
+        assertEquals(50, new Commission("$50/hr").getAmount());
+        assertEquals(0, new Commission("$0/hr").getAmount());
+        assertEquals(5000, new Commission("$50/hr").getCents());
+        assertEquals(999999999999999L, new Commission("$999999999999999/hr").getAmount());
+    }
+
+    @Test
+    public void toString_formatsStoredAmount() {
+        assertEquals("$50/hr", new Commission("$50/hr").toString());
+        assertEquals("$7/hr", new Commission("$007/hr").toString());
+    }
+
     @Test
     public void equals() {
         Commission commission = new Commission("$50/hr");
@@ -1,6 +1,7 @@
 package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -9,14 +10,20 @@ import org.junit.jupiter.api.Test;
 public class EmploymentTest {
 
     @Test
-    public void constructor_null_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new Name(null));
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> Employment.of(null));
     }
 
     @Test
-    public void constructor_invalidEmployment_throwsIllegalArgumentException() {
+    public void of_validEmployment_returnsSharedInstance() {
+        assertSame(Employment.PART_TIME, Employment.of("part-time"));
+        assertSame(Employment.FULL_TIME, Employment.of("full-time"));
+    }
+
+    @Test
+    public void of_invalidEmployment_throwsIllegalArgumentException() {
         String invalidEmployment = "";
-        assertThrows(IllegalArgumentException.class, () -> new Employment(invalidEmployment));
+        assertThrows(IllegalArgumentException.class, () -> Employment.of(invalidEmployment));
     }
 
     @Test
@@ -38,10 +45,10 @@ public class EmploymentTest {
 
     @Test
     public void equals() {
-        Employment employment = new Employment("part-time");
+        Employment employment = Employment.of("part-time");
 
         // same values -> returns true
-        assertTrue(employment.equals(new Employment("part-time")));
+        assertTrue(employment.equals(Employment.of("part-time")));
 
         // same object -> returns true
         assertTrue(employment.equals(employment));
@@ -53,6 +60,6 @@ public class EmploymentTest {
         assertFalse(employment.equals("part-time"));
 
         // different values -> returns false
-        assertFalse(employment.equals(new Employment("full-time")));
+        assertFalse(employment.equals(Employment.of("full-time")));
     }
 }
@@ -0,0 +1,104 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.index.AddressBookIndex;
+import seedu.address.model.index.TextField;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.SupplierBuilder;
+
+public class FieldContainsKeywordsPredicateTest {
+
+    @Test
+    public void equals() {
+        List<String> keywords = Collections.singletonList("first");
+        FieldContainsKeywordsPredicate predicate = new FieldContainsKeywordsPredicate(TextField.ADDRESS, keywords);
+
+        // same object -> returns true
+        assertTrue(predicate.equals(predicate));
+
+        // same values -> returns true
+        assertTrue(predicate.equals(new FieldContainsKeywordsPredicate(TextField.ADDRESS, keywords)));
+
+        // different types -> returns false
+        assertFalse(predicate.equals(1));
+
+        // null -> returns false
+        assertFalse(predicate.equals(null));
+
+        // different field -> returns false
+        assertFalse(predicate.equals(new FieldContainsKeywordsPredicate(TextField.EMAIL, keywords)));
+
+        // different keywords -> returns false
+        assertFalse(predicate.equals(new FieldContainsKeywordsPredicate(TextField.ADDRESS, List.of("second"))));
+    }
+
+    @Test
+    public void test_fieldContainsKeywords_returnsTrue() {
+        FieldContainsKeywordsPredicate predicate =
+                new FieldContainsKeywordsPredicate(TextField.ADDRESS, Arrays.asList("clementi", "Jurong"));
+        assertTrue(predicate.test(new PersonBuilder().withAddress("311, Clementi Ave 2").build()));
+
+        predicate = new FieldContainsKeywordsPredicate(TextField.PRODUCT, Collections.singletonList("FOOD"));
+        assertTrue(predicate.test(new SupplierBuilder().withProduct("dog food").build()));
+    }
+
+    @Test
+    public void test_fieldDoesNotContainKeywords_returnsFalse() {
+        FieldContainsKeywordsPredicate predicate =
+                new FieldContainsKeywordsPredicate(TextField.ADDRESS, Collections.singletonList("Clem"));
+        assertFalse(predicate.test(new PersonBuilder().withAddress("311, Clementi Ave 2").build()));
+
+        // person without the field
+        predicate = new FieldContainsKeywordsPredicate(TextField.PRODUCT, Collections.singletonList("food"));
+        assertFalse(predicate.test(new PersonBuilder().build()));
+    }
+
+    @Test
+    public void resolve_agreesWithTest() {
+        Person alice = new PersonBuilder().withName("Alice").withAddress("311, Clementi Ave 2").build();
+        Person benson = new SupplierBuilder().withName("Benson").withProduct("dog food").build();
+        AddressBookIndex index = new AddressBookIndex();
+        index.reset(Arrays.asList(alice, benson));
+
+        FieldContainsKeywordsPredicate predicate =
+                new FieldContainsKeywordsPredicate(TextField.PRODUCT, Collections.singletonList("Dog"));
+        assertEquals(Collections.singletonList(benson), index.getMatches(predicate));
+
+        predicate = new FieldContainsKeywordsPredicate(TextField.ADDRESS, Collections.singletonList("clementi"));
+        assertEquals(Collections.singletonList(alice), index.getMatches(predicate));
+    }
+
+    @Test
+    public void refines() {
+        FieldContainsKeywordsPredicate predicate =
+                new FieldContainsKeywordsPredicate(TextField.ADDRESS, Arrays.asList("Clementi", "Jurong"));
+
+        // fewer keywords -> returns true
+        assertTrue(new FieldContainsKeywordsPredicate(TextField.ADDRESS, List.of("Jurong")).refines(predicate));
+
+        // different field -> returns false
+        assertFalse(new FieldContainsKeywordsPredicate(TextField.EMAIL, List.of("Jurong")).refines(predicate));
+
+        // more keywords -> returns false
+        assertFalse(predicate.refines(new FieldContainsKeywordsPredicate(TextField.ADDRESS, List.of("Jurong"))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword1", "keyword2");
+        FieldContainsKeywordsPredicate predicate = new FieldContainsKeywordsPredicate(TextField.SKILL, keywords);
+
+        String expected = FieldContainsKeywordsPredicate.class.getCanonicalName()
+                + "{field=" + TextField.SKILL + ", keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -10,6 +10,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.index.AddressBookIndex;
 import seedu.address.testutil.PersonBuilder;
 
 public class NameContainsKeywordsPredicateTest {
@@ -74,6 +75,34 @@ public class NameContainsKeywordsPredicateTest {
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
 
+    @Test
+    public void resolve_matchesNameWordsOnly() {
+        Person alice = new PersonBuilder().withName("Alice Bob").withAddress("Main Street").build();
+        Person carol = new PersonBuilder().withName("Carol").build();
+        AddressBookIndex index = new AddressBookIndex();
+        index.reset(Arrays.asList(alice, carol));
+
+        assertEquals(Arrays.asList(alice, carol),
+                index.getMatches(new NameContainsKeywordsPredicate(Arrays.asList("bOB", "carol"))));
+        assertEquals(Collections.emptyList(),
+                index.getMatches(new NameContainsKeywordsPredicate(Arrays.asList("Main", "Ali"))));
+    }
+
+    @Test
+    public void refines() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob"));
+
+        // fewer keywords -> returns true
+        assertTrue(new NameContainsKeywordsPredicate(Collections.singletonList("Bob")).refines(predicate));
+        assertTrue(predicate.refines(predicate));
+
+        // more keywords -> returns false
+        assertFalse(predicate.refines(new NameContainsKeywordsPredicate(Collections.singletonList("Bob"))));
+
+        // different predicate type -> returns false
+        assertFalse(predicate.refines(new NameStartsWithKeywordsPredicate(Arrays.asList("Alice", "Bob"))));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
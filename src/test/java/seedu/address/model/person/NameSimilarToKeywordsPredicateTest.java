@@ -0,0 +1,100 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.index.AddressBookIndex;
+import seedu.address.testutil.PersonBuilder;
+
+public class NameSimilarToKeywordsPredicateTest {
+
+    @Test
+    public void equals() {
+        NameSimilarToKeywordsPredicate firstPredicate =
+                new NameSimilarToKeywordsPredicate(Collections.singletonList("first"));
+        NameSimilarToKeywordsPredicate secondPredicate =
+                new NameSimilarToKeywordsPredicate(Arrays.asList("first", "second"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NameSimilarToKeywordsPredicate(Collections.singletonList("first"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void getMaxDistance() {
+        assertEquals(0, NameSimilarToKeywordsPredicate.getMaxDistance("al"));
+        assertEquals(1, NameSimilarToKeywordsPredicate.getMaxDistance("alice"));
+        assertEquals(2, NameSimilarToKeywordsPredicate.getMaxDistance("alicia"));
+    }
+
+    @Test
+    public void test_nameSimilarToKeywords_returnsTrue() {
+        NameSimilarToKeywordsPredicate predicate =
+                new NameSimilarToKeywordsPredicate(Collections.singletonList("Alise"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // two typos in a long keyword
+        predicate = new NameSimilarToKeywordsPredicate(Collections.singletonList("paulien"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Pauline").build()));
+    }
+
+    @Test
+    public void test_nameNotSimilarToKeywords_returnsFalse() {
+        // short keywords must match exactly
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate(Collections.singletonList("Bo"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // too many typos
+        predicate = new NameSimilarToKeywordsPredicate(Collections.singletonList("Alyse"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+    }
+
+    @Test
+    public void resolve_agreesWithTest() {
+        Person alice = new PersonBuilder().withName("Alice Pauline").build();
+        Person benson = new PersonBuilder().withName("Benson Meier").build();
+        Person daniel = new PersonBuilder().withName("Daniel Meyer").build();
+        AddressBookIndex index = new AddressBookIndex();
+        index.reset(Arrays.asList(alice, benson, daniel));
+
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate(Arrays.asList("Meir", "alise"));
+        assertEquals(Arrays.asList(alice, benson), index.getMatches(predicate));
+
+        predicate = new NameSimilarToKeywordsPredicate(Collections.singletonList("Meiyer"));
+        assertEquals(Arrays.asList(benson, daniel), index.getMatches(predicate));
+    }
+
+    @Test
+    public void refines() {
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate(Arrays.asList("Alise", "Bbo"));
+        assertTrue(new NameSimilarToKeywordsPredicate(Collections.singletonList("Bbo")).refines(predicate));
+        assertFalse(predicate.refines(new NameSimilarToKeywordsPredicate(Collections.singletonList("Bbo"))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword1", "keyword2");
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate(keywords);
+
+        String expected = NameSimilarToKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
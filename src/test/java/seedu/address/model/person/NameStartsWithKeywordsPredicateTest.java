@@ -0,0 +1,101 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.index.AddressBookIndex;
+import seedu.address.testutil.PersonBuilder;
+
+public class NameStartsWithKeywordsPredicateTest {
+
+    @Test
+    public void equals() {
+        NameStartsWithKeywordsPredicate firstPredicate =
+                new NameStartsWithKeywordsPredicate(Collections.singletonList("fi"));
+        NameStartsWithKeywordsPredicate secondPredicate =
+                new NameStartsWithKeywordsPredicate(Arrays.asList("fi", "se"));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new NameStartsWithKeywordsPredicate(Collections.singletonList("fi"))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different prefixes -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_nameStartsWithPrefix_returnsTrue() {
+        NameStartsWithKeywordsPredicate predicate =
+                new NameStartsWithKeywordsPredicate(Collections.singletonList("Ali"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // second word of the name, mixed case
+        predicate = new NameStartsWithKeywordsPredicate(Arrays.asList("cA", "bO"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+    }
+
+    @Test
+    public void test_nameDoesNotStartWithPrefix_returnsFalse() {
+        // prefix in the middle of a word
+        NameStartsWithKeywordsPredicate predicate =
+                new NameStartsWithKeywordsPredicate(Collections.singletonList("lice"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // prefix longer than the word
+        predicate = new NameStartsWithKeywordsPredicate(Collections.singletonList("Bobby"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+    }
+
+    @Test
+    public void resolve_agreesWithTest() {
+        Person alice = new PersonBuilder().withName("Alice Bob").build();
+        Person carol = new PersonBuilder().withName("Carol Alison").build();
+        Person dave = new PersonBuilder().withName("Dave").build();
+        AddressBookIndex index = new AddressBookIndex();
+        index.reset(Arrays.asList(alice, carol, dave));
+
+        assertEquals(Arrays.asList(alice, carol),
+                index.getMatches(new NameStartsWithKeywordsPredicate(Collections.singletonList("ALI"))));
+        assertEquals(Arrays.asList(alice, dave),
+                index.getMatches(new NameStartsWithKeywordsPredicate(Arrays.asList("bo", "da"))));
+    }
+
+    @Test
+    public void refines() {
+        NameStartsWithKeywordsPredicate predicate = new NameStartsWithKeywordsPredicate(Arrays.asList("al", "b"));
+
+        // longer prefixes -> returns true
+        assertTrue(new NameStartsWithKeywordsPredicate(Arrays.asList("ALI", "bo")).refines(predicate));
+
+        // fewer prefixes -> returns true
+        assertTrue(new NameStartsWithKeywordsPredicate(Collections.singletonList("b")).refines(predicate));
+
+        // prefix not extending any other prefix -> returns false
+        assertFalse(new NameStartsWithKeywordsPredicate(Arrays.asList("ali", "c")).refines(predicate));
+        assertFalse(predicate.refines(new NameStartsWithKeywordsPredicate(Arrays.asList("ali", "bo"))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> prefixes = List.of("pre1", "pre2");
+        NameStartsWithKeywordsPredicate predicate = new NameStartsWithKeywordsPredicate(prefixes);
+
+        String expected = NameStartsWithKeywordsPredicate.class.getCanonicalName() + "{prefixes=" + prefixes + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -57,4 +59,24 @@ public class NameTest {
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
     }
+
+    @Test
+    public void equals_differentCase_returnsTrueWithSameHashCode() {
+        Name name = new Name("Valid Name");
+        Name upperCaseName = new Name("VALID NAME");
+
+        assertTrue(name.equals(upperCaseName));
+        assertEquals(name.hashCode(), upperCaseName.hashCode());
+        assertEquals(name.getKey(), upperCaseName.getKey());
+    }
+
+    @Test
+    public void getKey_computedOnce() {
+        Name name = new Name("Valid Name");
+        assertSame(name.getKey(), name.getKey());
+
+        // a name that is already lowercase is its own key
+        Name lowerCaseName = new Name("valid name");
+        assertSame(lowerCaseName.fullName, lowerCaseName.getKey());
+    }
 }
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -19,6 +20,12 @@ public class PriceTest {
         assertThrows(IllegalArgumentException.class, () -> new Price(invalidPrice));
     }
 
+    @Test
+    public void messageConstraints_statesLargestAmount() {
+        assertTrue(Price.MESSAGE_CONSTRAINTS.startsWith("Price should be in this format of $amount/unit"));
+        assertTrue(Price.MESSAGE_CONSTRAINTS.contains("999999999999999"));
+    }
+
     @Test
     public void isValidPrice() {
         // null Price
@@ -31,11 +38,37 @@ public class PriceTest {
         assertFalse(Price.isValidPrice("50/bag"));
         assertFalse(Price.isValidPrice("$50"));
 
+        assertFalse(Price.isValidPrice("$1000000000000000/kg")); // cents would not fit in a long
+        assertFalse(Price.isValidPrice("$99999999999999999999/kg"));
+
         // valid Price
+        assertTrue(Price.isValidPrice("$000000000000000000050/kg")); // leading zeros
+        assertTrue(Price.isValidPrice("$999999999999999/kg")); // largest amount
         assertTrue(Price.isValidPrice("$500/bag")); // exactly 3 numbers
         assertTrue(Price.isValidPrice("$50/piece"));
     }
 
+    @Test
+    public void getAmount() {
+        assertEquals(50, new Price("$50/bag").getAmount());
+        assertEquals(0, new Price("$0/bag").getAmount());
+        assertEquals(5000, new Price("$50/kg").getCents());
+        assertEquals(999999999999999L, new Price("$999999999999999/kg").getAmount());
+    }
+
+    @Test
+    public void compareTo_ordersByAmountThenUnit() {
+        assertTrue(new Price("$5/kg").compareTo(new Price("$50/bag")) < 0);
+        assertTrue(new Price("$5/kg").compareTo(new Price("$5/bag")) > 0);
+        assertEquals(0, new Price("$05/kg").compareTo(new Price("$5/kg")));
+    }
+
+    @Test
+    public void toString_formatsStoredAmount() {
+        assertEquals("$50/kg", new Price("$50/kg").toString());
+        assertEquals("$7/kg", new Price("$007/kg").toString());
+    }
+
     @Test
     public void equals() {
         Price price = new Price("$50/bag");
@@ -1,6 +1,7 @@
 package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -19,6 +20,12 @@ public class ProductTest {
         assertThrows(IllegalArgumentException.class, () -> new Product(invalidProduct));
     }
 
+    @Test
+    public void of_equalValue_returnsSameInstance() {
+        assertSame(Product.of("dog food"), Product.of(new String("dog food")));
+        assertThrows(IllegalArgumentException.class, () -> Product.of(" "));
+    }
+
     @Test
     public void isValidProduct() {
         // null Product
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -19,6 +20,11 @@ public class SalaryTest {
         assertThrows(IllegalArgumentException.class, () -> new Salary(invalidSalary));
     }
 
+    @Test
+    public void messageConstraints_statesLargestAmount() {
+        assertTrue(Salary.MESSAGE_CONSTRAINTS.contains("999999999999999"));
+    }
+
     @Test
     public void isValidSalary() {
         // null Salary
@@ -31,11 +37,30 @@ public class SalaryTest {
         assertFalse(Salary.isValidSalary("50/hr"));
         assertFalse(Salary.isValidSalary("$50"));
 
+        assertFalse(Salary.isValidSalary("$1000000000000000/hr")); // cents would not fit in a long
+        assertFalse(Salary.isValidSalary("$99999999999999999999/hr"));
+
         // valid Salary
+        assertTrue(Salary.isValidSalary("$000000000000000000050/hr")); // leading zeros
+        assertTrue(Salary.isValidSalary("$999999999999999/hr")); // largest amount
         assertTrue(Salary.isValidSalary("$500/hr")); // exactly 3 numbers
         assertTrue(Salary.isValidSalary("$50/hr"));
     }
 
+    @Test
+    public void getAmount() {
+        assertEquals(50, new Salary("$50/hr").getAmount());
+        assertEquals(0, new Salary("$0/hr").getAmount());
+        assertEquals(5000, new Salary("$50/hr").getCents());
+        assertEquals(999999999999999L, new Salary("$999999999999999/hr").getAmount());
+    }
+
+    @Test
+    public void toString_formatsStoredAmount() {
+        assertEquals("$50/hr", new Salary("$50/hr").toString());
+        assertEquals("$7/hr", new Salary("$007/hr").toString());
+    }
+
     @Test
     public void equals() {
         Salary salary = new Salary("$50/hr");
@@ -1,6 +1,7 @@
 package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -19,6 +20,12 @@ public class SkillTest {
         assertThrows(IllegalArgumentException.class, () -> new Skill(invalidSkill));
     }
 
+    @Test
+    public void of_equalValue_returnsSameInstance() {
+        assertSame(Skill.of("grooming"), Skill.of(new String("grooming")));
+        assertThrows(IllegalArgumentException.class, () -> Skill.of(" "));
+    }
+
     @Test
     public void isValidSkill() {
         // null skill
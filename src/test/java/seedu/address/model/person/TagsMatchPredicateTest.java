@@ -0,0 +1,86 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class TagsMatchPredicateTest {
+
+    private static final Tag FRIENDS = new Tag("friends");
+    private static final Tag COLLEAGUES = new Tag("colleagues");
+
+    @Test
+    public void equals() {
+        TagsMatchPredicate firstPredicate = new TagsMatchPredicate(Set.of(FRIENDS), Collections.emptySet());
+        TagsMatchPredicate secondPredicate = new TagsMatchPredicate(Set.of(FRIENDS), Set.of(COLLEAGUES));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new TagsMatchPredicate(Set.of(FRIENDS), Collections.emptySet())));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different tags -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_hasAllRequiredTags_returnsTrue() {
+        TagsMatchPredicate predicate = new TagsMatchPredicate(Set.of(FRIENDS, COLLEAGUES), Collections.emptySet());
+        assertTrue(predicate.test(new PersonBuilder().withExactTags("friends", "colleagues").build()));
+
+        // no tags required
+        predicate = new TagsMatchPredicate(Collections.emptySet(), Collections.emptySet());
+        assertTrue(predicate.test(new PersonBuilder().withExactTags().build()));
+    }
+
+    @Test
+    public void test_missingRequiredTag_returnsFalse() {
+        TagsMatchPredicate predicate = new TagsMatchPredicate(Set.of(FRIENDS, COLLEAGUES), Collections.emptySet());
+        assertFalse(predicate.test(new PersonBuilder().withExactTags("friends").build()));
+    }
+
+    @Test
+    public void test_hasExcludedTag_returnsFalse() {
+        TagsMatchPredicate predicate = new TagsMatchPredicate(Set.of(FRIENDS), Set.of(COLLEAGUES));
+        assertFalse(predicate.test(new PersonBuilder().withExactTags("friends", "colleagues").build()));
+        assertTrue(predicate.test(new PersonBuilder().withExactTags("friends").build()));
+    }
+
+    @Test
+    public void refines() {
+        TagsMatchPredicate predicate = new TagsMatchPredicate(Set.of(new Tag("friends")), Set.of(new Tag("owesMoney")));
+
+        // more required and excluded tags -> returns true
+        assertTrue(new TagsMatchPredicate(Set.of(new Tag("friends"), new Tag("colleagues")),
+                Set.of(new Tag("owesMoney"), new Tag("blocked"))).refines(predicate));
+
+        // missing required tag -> returns false
+        assertFalse(new TagsMatchPredicate(Collections.emptySet(), Set.of(new Tag("owesMoney"))).refines(predicate));
+
+        // missing excluded tag -> returns false
+        assertFalse(new TagsMatchPredicate(Set.of(new Tag("friends")), Collections.emptySet()).refines(predicate));
+    }
+
+    @Test
+    public void toStringMethod() {
+        TagsMatchPredicate predicate = new TagsMatchPredicate(Set.of(FRIENDS), Set.of(COLLEAGUES));
+        String expected = TagsMatchPredicate.class.getCanonicalName() + "{requiredTags=" + Set.of(FRIENDS)
+                + ", excludedTags=" + Set.of(COLLEAGUES) + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -7,14 +7,22 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.ALICESTAFF;
+import static seedu.address.testutil.TypicalPersons.BENSONSTAFF;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.BOBSUPPLIER;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -47,6 +55,20 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithDifferentCaseName_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person upperCaseAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        assertTrue(uniquePersonList.contains(upperCaseAlice));
+    }
+
+    @Test
+    public void contains_removedPerson_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -58,6 +80,71 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void add_personWithDifferentCaseName_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        Person lowerCaseAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toLowerCase()).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(lowerCaseAlice));
+    }
+
+    @Test
+    public void add_withOrderKeyOfRemovedPerson_restoresPosition() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL));
+        long orderKey = uniquePersonList.getOrderKey(BOB);
+        uniquePersonList.remove(BOB);
+        uniquePersonList.add(BENSONSTAFF);
+
+        uniquePersonList.add(orderKey, BOB);
+        assertEquals(Arrays.asList(ALICE, BOB, CARL, BENSONSTAFF), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, uniquePersonList.indexOf(BOB));
+    }
+
+    @Test
+    public void getOrderKey_personNotInList_throwsPersonNotFoundException() {
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.getOrderKey(ALICE));
+    }
+
+    @Test
+    public void randomUpdates_positionsMatchArrayList() {
+        Random random = new Random(11);
+        List<Person> expected = new ArrayList<>();
+        Person removed = null;
+        int removedIndex = 0;
+        long removedOrderKey = 0;
+
+        for (int step = 0; step < 1000; step++) {
+            int operation = random.nextInt(4);
+            if (operation == 3 && removed != null) {
+                // put back the person just removed, as undo does
+                uniquePersonList.add(removedOrderKey, removed);
+                expected.add(removedIndex, removed);
+                removed = null;
+                continue;
+            }
+            removed = null;
+            if (operation == 0 || expected.isEmpty()) {
+                Person person = new PersonBuilder().withName("Person " + step).build();
+                uniquePersonList.add(person);
+                expected.add(person);
+            } else if (operation == 1) {
+                removedIndex = random.nextInt(expected.size());
+                removed = expected.remove(removedIndex);
+                removedOrderKey = uniquePersonList.getOrderKey(removed);
+                uniquePersonList.remove(removed);
+            } else {
+                int index = random.nextInt(expected.size());
+                Person editedPerson = new PersonBuilder().withName("Edited " + step).build();
+                uniquePersonList.setPerson(expected.get(index), editedPerson);
+                expected.set(index, editedPerson);
+            }
+        }
+
+        assertEquals(expected, uniquePersonList.asUnmodifiableObservableList());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(i, uniquePersonList.indexOf(expected.get(i)));
+        }
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -102,6 +189,21 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_updatesIdentity() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void setPerson_targetWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPerson(editedAlice, BOB));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -127,6 +229,13 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -154,6 +263,8 @@ public class UniquePersonListTest {
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         expectedUniquePersonList.add(BOB);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
     }
 
     @Test
@@ -168,6 +279,37 @@ public class UniquePersonListTest {
             -> uniquePersonList.asUnmodifiableObservableList().remove(0));
     }
 
+    @Test
+    public void applyBatch_severalMutations_notifiesListenersOnce() {
+        uniquePersonList.add(ALICESTAFF);
+        List<Integer> personChanges = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                personChanges.add(change.getList().size()));
+
+        uniquePersonList.applyBatch(() -> {
+            uniquePersonList.add(BENSONSTAFF);
+            uniquePersonList.add(BOBSUPPLIER);
+            uniquePersonList.remove(ALICESTAFF);
+            uniquePersonList.add(CARL);
+        });
+
+        assertEquals(Arrays.asList(BENSONSTAFF, BOBSUPPLIER, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Collections.singletonList(3), personChanges);
+    }
+
+    @Test
+    public void applyBatch_mutationThrows_stillNotifiesListeners() {
+        List<Integer> personChanges = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                personChanges.add(change.getList().size()));
+
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.applyBatch(() -> {
+            uniquePersonList.add(ALICE);
+            uniquePersonList.add(ALICE);
+        }));
+        assertEquals(Collections.singletonList(1), personChanges);
+    }
+
     @Test
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
@@ -0,0 +1,85 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.index.AmountField;
+import seedu.address.model.person.AmountInRangePredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.StaffBuilder;
+
+public class AndPredicateTest {
+
+    private static final NameContainsKeywordsPredicate ALICE_OR_BOB =
+            new NameContainsKeywordsPredicate(List.of("Alice", "Bob"));
+    private static final AmountInRangePredicate SALARY_UP_TO_20 =
+            new AmountInRangePredicate(AmountField.SALARY, 0, 20);
+
+    @Test
+    public void equals() {
+        AndPredicate predicate = new AndPredicate(List.of(ALICE_OR_BOB, SALARY_UP_TO_20));
+
+        // same object -> returns true
+        assertTrue(predicate.equals(predicate));
+
+        // same values -> returns true
+        assertTrue(predicate.equals(new AndPredicate(List.of(ALICE_OR_BOB, SALARY_UP_TO_20))));
+
+        // different types -> returns false
+        assertFalse(predicate.equals(1));
+
+        // null -> returns false
+        assertFalse(predicate.equals(null));
+
+        // different operands -> returns false
+        assertFalse(predicate.equals(new AndPredicate(List.of(ALICE_OR_BOB))));
+        assertFalse(predicate.equals(new OrPredicate(List.of(ALICE_OR_BOB, SALARY_UP_TO_20))));
+    }
+
+    @Test
+    public void test() {
+        AndPredicate predicate = new AndPredicate(List.of(ALICE_OR_BOB, SALARY_UP_TO_20));
+
+        // every operand satisfied
+        assertTrue(predicate.test(new StaffBuilder().withName("Alice Yeoh").withSalary("$20/hr").build()));
+
+        // one operand not satisfied
+        assertFalse(predicate.test(new StaffBuilder().withName("Alice Yeoh").withSalary("$25/hr").build()));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Yeoh").build()));
+
+        // no operands
+        assertTrue(new AndPredicate(Collections.emptyList()).test(new PersonBuilder().build()));
+    }
+
+    @Test
+    public void refines() {
+        AndPredicate predicate = new AndPredicate(List.of(ALICE_OR_BOB, SALARY_UP_TO_20));
+
+        // an operand is or refines the other predicate -> returns true
+        assertTrue(predicate.refines(ALICE_OR_BOB));
+        assertTrue(predicate.refines(new NameContainsKeywordsPredicate(List.of("Alice", "Bob", "Carl"))));
+        assertTrue(predicate.refines(new AmountInRangePredicate(AmountField.SALARY, 0, 50)));
+        assertTrue(predicate.refines(new AndPredicate(List.of(SALARY_UP_TO_20))));
+        assertTrue(predicate.refines(predicate));
+
+        // an operand of the other predicate is not refined -> returns false
+        assertFalse(predicate.refines(new NameContainsKeywordsPredicate(List.of("Alice"))));
+        assertFalse(predicate.refines(new AndPredicate(List.of(SALARY_UP_TO_20,
+                new AmountInRangePredicate(AmountField.PRICE, 0, 50)))));
+        assertFalse(new AndPredicate(List.of(ALICE_OR_BOB)).refines(predicate));
+    }
+
+    @Test
+    public void toStringMethod() {
+        AndPredicate predicate = new AndPredicate(List.of(ALICE_OR_BOB));
+        String expected = AndPredicate.class.getCanonicalName() + "{operands=[" + ALICE_OR_BOB + "]}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class NotPredicateTest {
+
+    private static final NameContainsKeywordsPredicate ALICE = new NameContainsKeywordsPredicate(List.of("Alice"));
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new NotPredicate(null));
+    }
+
+    @Test
+    public void equals() {
+        NotPredicate predicate = new NotPredicate(ALICE);
+
+        // same object -> returns true
+        assertTrue(predicate.equals(predicate));
+
+        // same values -> returns true
+        assertTrue(predicate.equals(new NotPredicate(new NameContainsKeywordsPredicate(List.of("Alice")))));
+
+        // different types -> returns false
+        assertFalse(predicate.equals(1));
+
+        // null -> returns false
+        assertFalse(predicate.equals(null));
+
+        // different operand -> returns false
+        assertFalse(predicate.equals(new NotPredicate(new NameContainsKeywordsPredicate(List.of("Bob")))));
+    }
+
+    @Test
+    public void test() {
+        NotPredicate predicate = new NotPredicate(ALICE);
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Yeoh").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Bob Choo").build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        NotPredicate predicate = new NotPredicate(ALICE);
+        String expected = NotPredicate.class.getCanonicalName() + "{operand=" + ALICE + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.index.AmountField;
+import seedu.address.model.person.AmountInRangePredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.StaffBuilder;
+
+public class OrPredicateTest {
+
+    private static final NameContainsKeywordsPredicate ALICE = new NameContainsKeywordsPredicate(List.of("Alice"));
+    private static final AmountInRangePredicate SALARY_UP_TO_20 =
+            new AmountInRangePredicate(AmountField.SALARY, 0, 20);
+
+    @Test
+    public void equals() {
+        OrPredicate predicate = new OrPredicate(List.of(ALICE, SALARY_UP_TO_20));
+
+        // same object -> returns true
+        assertTrue(predicate.equals(predicate));
+
+        // same values -> returns true
+        assertTrue(predicate.equals(new OrPredicate(List.of(ALICE, SALARY_UP_TO_20))));
+
+        // different types -> returns false
+        assertFalse(predicate.equals(1));
+
+        // null -> returns false
+        assertFalse(predicate.equals(null));
+
+        // different operands -> returns false
+        assertFalse(predicate.equals(new OrPredicate(List.of(SALARY_UP_TO_20))));
+    }
+
+    @Test
+    public void test() {
+        OrPredicate predicate = new OrPredicate(List.of(ALICE, SALARY_UP_TO_20));
+
+        // one operand satisfied
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Yeoh").build()));
+        assertTrue(predicate.test(new StaffBuilder().withName("Bob Choo").withSalary("$10/hr").build()));
+
+        // no operand satisfied
+        assertFalse(predicate.test(new StaffBuilder().withName("Bob Choo").withSalary("$25/hr").build()));
+
+        // no operands
+        assertFalse(new OrPredicate(Collections.emptyList()).test(new PersonBuilder().build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        OrPredicate predicate = new OrPredicate(List.of(ALICE));
+        String expected = OrPredicate.class.getCanonicalName() + "{operands=[" + ALICE + "]}";
+        assertEquals(expected, predicate.toString());
+    }
+}
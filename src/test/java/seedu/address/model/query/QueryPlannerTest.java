@@ -0,0 +1,185 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.index.AddressBookIndex;
+import seedu.address.model.index.AmountField;
+import seedu.address.model.index.TextField;
+import seedu.address.model.person.AmountInRangePredicate;
+import seedu.address.model.person.FieldContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameStartsWithKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TagsMatchPredicate;
+import seedu.address.model.query.QueryPlan.Access;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.MaintainerBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.StaffBuilder;
+import seedu.address.testutil.SupplierBuilder;
+
+public class QueryPlannerTest {
+
+    private static final Person ALICE = new StaffBuilder().withName("Alice Pauline").withSalary("$15/hr").build();
+    private static final Person BENSON = new StaffBuilder().withName("Benson Meier").withSalary("$30/hr").build();
+    private static final Person CARL = new StaffBuilder().withName("Carl Kurz").withSalary("$30/hr").build();
+    private static final Person DANIEL = new SupplierBuilder().withName("Daniel Meier").withPrice("$20/kg").build();
+    private static final Person ELLE = new MaintainerBuilder().withName("Elle Meyer").withCommission("$25/hr").build();
+    private static final Person FIONA = new PersonBuilder().withName("Fiona Kunz").build();
+    private static final List<Person> PERSONS = List.of(ALICE, BENSON, CARL, DANIEL, ELLE, FIONA);
+
+    private static final TagsMatchPredicate STAFF = new TagsMatchPredicate(Set.of(new Tag("staff")),
+            Collections.emptySet());
+    private static final NameContainsKeywordsPredicate MEIER = new NameContainsKeywordsPredicate(List.of("Meier"));
+    private static final AmountInRangePredicate ANY_SALARY =
+            new AmountInRangePredicate(AmountField.SALARY, 0, Long.MAX_VALUE);
+    private static final Predicate<Person> ALWAYS_TRUE = unused -> true;
+
+    private final AddressBookIndex index = new AddressBookIndex();
+
+    {
+        index.reset(PERSONS);
+    }
+
+    @Test
+    public void plan_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> QueryPlanner.plan(null, index));
+        assertThrows(NullPointerException.class, () -> QueryPlanner.plan(STAFF, null));
+    }
+
+    @Test
+    public void plan_mostSelectiveConditionLookedUpFirst() {
+        QueryPlan plan = QueryPlanner.plan(new AndPredicate(List.of(STAFF, MEIER)), index);
+
+        // only one staff is left to test after looking up the two Meiers
+        assertEquals(List.of(new QueryPlan.Step(MEIER, Access.LOOKUP, 2), new QueryPlan.Step(STAFF, Access.FILTER, 2)),
+                plan.getSteps());
+        assertEquals(2, plan.getEstimate());
+    }
+
+    @Test
+    public void plan_conditionNoLessSelectiveThanCandidates_lookedUp() {
+        QueryPlan plan = QueryPlanner.plan(new AndPredicate(List.of(STAFF, ANY_SALARY)), index);
+        assertEquals(List.of(new QueryPlan.Step(STAFF, Access.LOOKUP, 3),
+                new QueryPlan.Step(ANY_SALARY, Access.LOOKUP, 3)), plan.getSteps());
+    }
+
+    @Test
+    public void plan_unindexedConditionTestedLast() {
+        QueryPlan plan = QueryPlanner.plan(new AndPredicate(List.of(ALWAYS_TRUE, MEIER)), index);
+        assertEquals(List.of(new QueryPlan.Step(MEIER, Access.LOOKUP, 2),
+                new QueryPlan.Step(ALWAYS_TRUE, Access.FILTER, 2)), plan.getSteps());
+
+        // nothing to look up
+        plan = QueryPlanner.plan(ALWAYS_TRUE, index);
+        assertEquals(List.of(new QueryPlan.Step(ALWAYS_TRUE, Access.FILTER, 6)), plan.getSteps());
+    }
+
+    @Test
+    public void plan_nestedConjunctions_flattened() {
+        AndPredicate nested = new AndPredicate(List.of(STAFF, new AndPredicate(List.of(MEIER, ANY_SALARY))));
+        assertEquals(QueryPlanner.plan(new AndPredicate(List.of(STAFF, MEIER, ANY_SALARY)), index),
+                QueryPlanner.plan(nested, index));
+    }
+
+    @Test
+    public void execute_agreesWithTest() {
+        NameStartsWithKeywordsPredicate startsWithK = new NameStartsWithKeywordsPredicate(List.of("k"));
+        List<Predicate<Person>> predicates = List.of(
+                new AndPredicate(List.of(STAFF, MEIER)),
+                new AndPredicate(List.of(ALWAYS_TRUE, startsWithK)),
+                new AndPredicate(List.of(STAFF, new NotPredicate(MEIER), ANY_SALARY)),
+                new OrPredicate(List.of(MEIER, startsWithK)),
+                new OrPredicate(List.of(new AndPredicate(List.of(STAFF, startsWithK)), ALWAYS_TRUE.negate())),
+                new NotPredicate(new OrPredicate(List.of(STAFF, MEIER))),
+                new AndPredicate(Collections.emptyList()));
+
+        for (Predicate<Person> predicate : predicates) {
+            List<Person> expected = PERSONS.stream().filter(predicate).collect(Collectors.toList());
+            assertEquals(expected, index.getSlots().getAll(QueryPlanner.resolve(predicate, index)),
+                    predicate.toString());
+        }
+    }
+
+    @Test
+    public void execute_noCandidatesLeft_skipsLaterSteps() {
+        Predicate<Person> failing = person -> {
+            throw new AssertionError("This predicate should not be tested.");
+        };
+        AndPredicate predicate = new AndPredicate(List.of(failing,
+                new NameContainsKeywordsPredicate(List.of("Nobody"))));
+        assertEquals(Collections.emptyList(), index.getMatches(predicate));
+    }
+
+    @Test
+    public void estimate() {
+        assertEquals(3, QueryPlanner.estimate(STAFF, index));
+        assertEquals(2, QueryPlanner.estimate(MEIER, index));
+        assertEquals(3, QueryPlanner.estimate(ANY_SALARY, index));
+        assertEquals(6, QueryPlanner.estimate(ALWAYS_TRUE, index));
+        assertEquals(2, QueryPlanner.estimate(new AndPredicate(List.of(STAFF, MEIER)), index));
+        assertEquals(5, QueryPlanner.estimate(new OrPredicate(List.of(STAFF, MEIER)), index));
+
+        // never more than the number of persons
+        assertEquals(6, QueryPlanner.estimate(new OrPredicate(List.of(STAFF, ANY_SALARY, MEIER)), index));
+        assertEquals(6, QueryPlanner.estimate(new NotPredicate(MEIER), index));
+    }
+
+    @Test
+    public void normalize() {
+        // order, nesting and repetition of operands
+        assertEquals(QueryPlanner.normalize(new AndPredicate(List.of(STAFF, MEIER))),
+                QueryPlanner.normalize(new AndPredicate(List.of(MEIER, new AndPredicate(List.of(STAFF, MEIER))))));
+        assertEquals(QueryPlanner.normalize(new OrPredicate(List.of(STAFF, MEIER))),
+                QueryPlanner.normalize(new OrPredicate(List.of(new OrPredicate(List.of(MEIER)), STAFF))));
+
+        // a single operand stands for itself
+        assertEquals(MEIER, QueryPlanner.normalize(new AndPredicate(List.of(MEIER, MEIER))));
+
+        // double negation
+        assertEquals(MEIER, QueryPlanner.normalize(new NotPredicate(new NotPredicate(MEIER))));
+
+        // conjunctions and disjunctions stay apart
+        assertEquals(new AndPredicate(List.of(MEIER, new OrPredicate(List.of(ANY_SALARY, STAFF)))),
+                QueryPlanner.normalize(new AndPredicate(List.of(new OrPredicate(List.of(STAFF, ANY_SALARY)), MEIER))));
+    }
+
+    @Test
+    public void explain() {
+        QueryPlan plan = QueryPlanner.plan(new AndPredicate(List.of(STAFF, MEIER)), index);
+        String expected = String.format(QueryPlan.MESSAGE_HEADER, 6, 2) + "\n"
+                + String.format(QueryPlan.MESSAGE_LOOKUP, 1, "name Meier", 2) + "\n"
+                + String.format(QueryPlan.MESSAGE_FILTER, 2, "tag staff", 2);
+        assertEquals(expected, plan.explain());
+    }
+
+    @Test
+    public void describe() {
+        assertEquals("name Meier", QueryPlanner.describe(MEIER));
+        assertEquals("name starts with al or k",
+                QueryPlanner.describe(new NameStartsWithKeywordsPredicate(List.of("al", "k"))));
+        assertEquals("tag friends and tag staff and not tag owesMoney", QueryPlanner.describe(new TagsMatchPredicate(
+                Set.of(new Tag("staff"), new Tag("friends")), Set.of(new Tag("owesMoney")))));
+        assertEquals("salary 20-\u221e", QueryPlanner.describe(new AmountInRangePredicate(AmountField.SALARY, 20,
+                Long.MAX_VALUE)));
+        assertEquals("address jurong or west", QueryPlanner.describe(new FieldContainsKeywordsPredicate(
+                TextField.ADDRESS, List.of("jurong", "west"))));
+        assertEquals("price 0-30", QueryPlanner.describe(new AmountInRangePredicate(AmountField.PRICE, 0, 30)));
+        assertEquals(QueryPlanner.UNINDEXED_DESCRIPTION, QueryPlanner.describe(ALWAYS_TRUE));
+
+        // compound operands are parenthesized
+        assertEquals("name Meier and (tag staff or " + QueryPlanner.UNINDEXED_DESCRIPTION + ")",
+                QueryPlanner.describe(new AndPredicate(List.of(MEIER, new OrPredicate(List.of(STAFF, ALWAYS_TRUE))))));
+        assertEquals("not (name Meier and tag staff)",
+                QueryPlanner.describe(new NotPredicate(new AndPredicate(List.of(MEIER, STAFF)))));
+    }
+}
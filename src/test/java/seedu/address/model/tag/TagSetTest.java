@@ -0,0 +1,70 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    private static final Tag FRIENDS = new Tag("friends");
+    private static final Tag COLLEAGUES = new Tag("colleagues");
+    private static final Tag OWES_MONEY = new Tag("owesMoney");
+
+    private final TagSet tagSet = TagSet.of(Arrays.asList(OWES_MONEY, FRIENDS, COLLEAGUES, FRIENDS));
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> TagSet.of(null));
+    }
+
+    @Test
+    public void of_duplicateTags_keepsDistinctTagsSortedByName() {
+        assertEquals(3, tagSet.size());
+        assertEquals(Arrays.asList(COLLEAGUES, FRIENDS, OWES_MONEY), new ArrayList<>(tagSet));
+    }
+
+    @Test
+    public void of_sharesTagsAndSets() {
+        assertSame(Tag.of("friends"), TagSet.of(Set.of(new Tag("friends"))).iterator().next());
+        assertSame(tagSet, TagSet.of(tagSet));
+        assertSame(TagSet.empty(), TagSet.of(Collections.emptySet()));
+    }
+
+    @Test
+    public void contains() {
+        assertTrue(tagSet.contains(new Tag("friends")));
+        assertFalse(tagSet.contains(new Tag("family")));
+        assertFalse(tagSet.contains("friends"));
+        assertFalse(TagSet.empty().contains(FRIENDS));
+    }
+
+    @Test
+    public void equalsAndHashCode_matchOtherSets() {
+        Set<Tag> hashSet = new HashSet<>(List.of(FRIENDS, COLLEAGUES, OWES_MONEY));
+        assertEquals(hashSet, tagSet);
+        assertEquals(tagSet, hashSet);
+        assertEquals(hashSet.hashCode(), tagSet.hashCode());
+        assertEquals(tagSet, TagSet.of(hashSet));
+        assertFalse(tagSet.equals(TagSet.of(Set.of(FRIENDS))));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.add(FRIENDS));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.remove(FRIENDS));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.removeIf(tag -> true));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.clear());
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.iterator().remove());
+    }
+}
@@ -25,6 +25,8 @@ import seedu.address.model.person.Price;
 import seedu.address.model.person.Product;
 import seedu.address.model.person.Salary;
 import seedu.address.model.person.Skill;
+import seedu.address.model.person.Staff;
+import seedu.address.model.person.Supplier;
 
 public class JsonAdaptedPersonTest {
     private static final String INVALID_NAME = "R@chel";
@@ -157,6 +159,22 @@ public class JsonAdaptedPersonTest {
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
 
+    @Test
+    public void toModelType_salaryOverLimit_lowersToLargestAmount() throws Exception {
+        JsonAdaptedPerson person =
+                new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS, VALID_TAGS,
+                        "$1000000000000000/hr", VALID_EMPLOYMENT, NULL, NULL, NULL, NULL);
+        assertEquals(new Salary("$999999999999999/hr"), ((Staff) person.toModelType()).getSalary());
+    }
+
+    @Test
+    public void toModelType_priceOverLimit_lowersToLargestAmount() throws Exception {
+        JsonAdaptedPerson person =
+                new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS, VALID_TAGS,
+                        NULL, NULL, VALID_PRODUCT, "$12345678901234567890/kg", NULL, NULL);
+        assertEquals(new Price("$999999999999999/kg"), ((Supplier) person.toModelType()).getPrice());
+    }
+
     @Test
     public void toModelType_invalidEmployment_throwsIllegalValueException() {
         JsonAdaptedPerson person =
@@ -11,6 +11,8 @@ import org.junit.jupiter.api.Test;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Salary;
+import seedu.address.model.person.Staff;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -19,6 +21,9 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path MULTIPLE_DUPLICATE_PERSONS_FILE =
+            TEST_DATA_FOLDER.resolve("multipleDuplicatePersonsAddressBook.json");
+    private static final Path OVERSIZED_AMOUNTS_FILE = TEST_DATA_FOLDER.resolve("oversizedAmountsAddressBook.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -29,6 +34,16 @@ public class JsonSerializableAddressBookTest {
         assertEquals(addressBookFromFile, typicalPersonsAddressBook);
     }
 
+    @Test
+    public void toModelType_oversizedAmountsFile_loadsEveryPerson() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(OVERSIZED_AMOUNTS_FILE,
+                JsonSerializableAddressBook.class).get();
+        AddressBook addressBookFromFile = dataFromFile.toModelType();
+        assertEquals(2, addressBookFromFile.getPersonList().size());
+        Staff staff = (Staff) addressBookFromFile.getPersonList().get(1);
+        assertEquals(new Salary("$999999999999999/hr"), staff.getSalary());
+    }
+
     @Test
     public void toModelType_invalidPersonFile_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(INVALID_PERSON_FILE,
@@ -40,8 +55,19 @@ public class JsonSerializableAddressBookTest {
     public void toModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
                 JsonSerializableAddressBook.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
-                dataFromFile::toModelType);
+        String expectedMessage = JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON
+                + String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON_DETAILS, 2, "Alice Pauline", 1);
+        assertThrows(IllegalValueException.class, expectedMessage, dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_multipleDuplicatePersons_reportsEveryDuplicate() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(MULTIPLE_DUPLICATE_PERSONS_FILE,
+                JsonSerializableAddressBook.class).get();
+        String expectedMessage = JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON
+                + String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON_DETAILS, 3, "alice pauline", 1)
+                + String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON_DETAILS, 4, "Benson Meier", 2);
+        assertThrows(IllegalValueException.class, expectedMessage, dataFromFile::toModelType);
     }
 
 }
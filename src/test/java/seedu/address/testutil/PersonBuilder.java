@@ -9,6 +9,7 @@ import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.util.SampleDataUtil;
 
 /**
  * A utility class to help with building Person objects.
@@ -72,6 +73,16 @@ public class PersonBuilder {
         return this;
     }
 
+    /**
+     * Sets the tags of the {@code Person} that we are building to exactly {@code tags}, replacing the default tag.
+     * Unlike {@link #withTags(String...)}, which leaves the tags unchanged, this can build persons without tags or
+     * with tags other than the default one.
+     */
+    public PersonBuilder withExactTags(String... tags) {
+        this.tags = SampleDataUtil.getTagSet(tags);
+        return this;
+    }
+
     /**
      * Sets the {@code Address} of the {@code Person} that we are building.
      */
@@ -74,7 +74,7 @@ public class PersonUtil {
         sb.append(PREFIX_PHONE + person.getPhone().value + " ");
         sb.append(PREFIX_EMAIL + person.getEmail().value + " ");
         sb.append(PREFIX_ADDRESS + person.getAddress().value + " ");
-        sb.append(PREFIX_SALARY + person.getSalary().value + " ");
+        sb.append(PREFIX_SALARY + person.getSalary().toString() + " ");
         sb.append(PREFIX_EMPLOYMENT + person.getEmployment().employment + " ");
         /*
         person.getTags().stream().forEach(
@@ -94,7 +94,7 @@ public class PersonUtil {
         sb.append(PREFIX_EMAIL + person.getEmail().value + " ");
         sb.append(PREFIX_ADDRESS + person.getAddress().value + " ");
         sb.append(PREFIX_PRODUCT + person.getProduct().product + " ");
-        sb.append(PREFIX_PRICE + person.getPrice().price + " ");
+        sb.append(PREFIX_PRICE + person.getPrice().toString() + " ");
         /*
         person.getTags().stream().forEach(
             s -> sb.append(PREFIX_TAG + s.tagName + " ")
@@ -113,7 +113,7 @@ public class PersonUtil {
         sb.append(PREFIX_EMAIL + person.getEmail().value + " ");
         sb.append(PREFIX_ADDRESS + person.getAddress().value + " ");
         sb.append(PREFIX_SKILL + person.getSkill().skill + " ");
-        sb.append(PREFIX_COMMISSION + person.getCommission().commission + " ");
+        sb.append(PREFIX_COMMISSION + person.getCommission().toString() + " ");
         /*
         person.getTags().stream().forEach(
             s -> sb.append(PREFIX_TAG + s.tagName + " ")
@@ -46,7 +46,7 @@ public class StaffBuilder {
         tag = new Tag(DEFAULT_TAG);
         tags.add(tag);
         salary = new Salary(DEFAULT_SALARY);
-        employment = new Employment(DEFAULT_EMPLOYMENT);
+        employment = Employment.of(DEFAULT_EMPLOYMENT);
     }
 
     /**
@@ -118,7 +118,7 @@ public class StaffBuilder {
      * Sets the {@code Employment} of the {@code Staff} that we are building.
      */
     public StaffBuilder withEmployment(String employment) {
-        this.employment = new Employment(employment);
+        this.employment = Employment.of(employment);
         return this;
     }
 